@@ -0,0 +1,56 @@
+package xyz.ytora.ytool.invoke;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
+import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+import xyz.ytora.ytool.json.Payloads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * created by yangtong on 2026/10/18 20:49:37
+ * <br/>
+ * 首次使用一个类的代价：每次调用都新建 ClassMetadata，收集字段、方法、构造器和属性，并对每个字段做一次读取
+ * （触发 VarHandle 初始化），相当于 ClassCache 未命中时的开销
+ * <p>
+ * 运行：java -jar target/benchmarks.jar MetadataBuildBenchmark -prof gc
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataBuildBenchmark {
+
+    @Param({"sample", "smallDto", "node"})
+    public String type;
+
+    private Class<?> sourceClass;
+    private Object instance;
+
+    @Setup
+    public void setup() {
+        switch (type) {
+            case "sample" -> instance = new Samples.Alpha("x");
+            case "smallDto" -> instance = Payloads.small(1);
+            case "node" -> instance = Payloads.deep(2);
+            default -> throw new IllegalArgumentException("未知类型: " + type);
+        }
+        sourceClass = instance.getClass();
+    }
+
+    @Benchmark
+    public Object build() throws Exception {
+        ClassMetadata<?> metadata = new ClassMetadata<>(sourceClass);
+        metadata.getMethods();
+        metadata.findConstructor();
+        metadata.getProperties();
+        Object last = null;
+        for (FieldMetadata field : metadata.getFields()) {
+            last = field.get(instance);
+        }
+        return last;
+    }
+}
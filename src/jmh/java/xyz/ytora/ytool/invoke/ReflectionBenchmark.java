@@ -0,0 +1,197 @@
+package xyz.ytora.ytool.invoke;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.ytora.ytool.bean.Beans;
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
+import xyz.ytora.ytool.invoke.support.LambdaInvoke;
+import xyz.ytora.ytool.invoke.support.ReflectInvoke;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * created by yangtong on 2026/10/18 20:38:15
+ * <br/>
+ * 各反射调用方式的吞吐量：字段读写、getter/setter 调用、构造器调用、Beans.copyProperties、Reflects.invokeMethod。
+ * direct 为直接调用的基准；shape=mono 时调用点只见到一个类，shape=mega 时轮流见到四个类。
+ * 多线程版本见 {@link ReflectionConcurrentBenchmark}
+ * <p>
+ * 运行：mvn -Pjmh package -DskipTests && java -jar target/benchmarks.jar ReflectionBenchmark -rf json -rff target/jmh-reflection.json
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReflectionBenchmark {
+
+    private static final Class<?>[] INT_PARAM = {int.class};
+
+    @Param({Samples.MONO, Samples.MEGA})
+    public String shape;
+
+    private final ReflectInvoke reflectInvoke = new ReflectInvoke();
+    private final LambdaInvoke lambdaInvoke = new LambdaInvoke();
+
+    private Class<?>[] types;
+    private Samples.Sample[] samples;
+    private FieldMetadata[] fields;
+    private int[] slots;
+    private MethodMetadata[] getters;
+    private MethodMetadata[] setters;
+    private ConstructorMetadata<?>[] constructors;
+    private Samples.Target target;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        types = Samples.types(shape);
+        samples = Samples.create(shape);
+        int n = types.length;
+        fields = new FieldMetadata[n];
+        slots = new int[n];
+        getters = new MethodMetadata[n];
+        setters = new MethodMetadata[n];
+        constructors = new ConstructorMetadata<?>[n];
+        for (int i = 0; i < n; i++) {
+            fields[i] = ClassCache.getField(types[i], "name");
+            slots[i] = lambdaInvoke.fieldSlot(types[i], "name");
+            getters[i] = ClassCache.getMethod(types[i], "getName");
+            setters[i] = ClassCache.getMethod(types[i], "setName", String.class);
+            constructors[i] = ClassCache.getConstructor(types[i]);
+        }
+        target = new Samples.Target();
+    }
+
+    private int next() {
+        return cursor++ & (Samples.SHAPES - 1);
+    }
+
+    // ---------------- 字段读取 ----------------
+
+    @Benchmark
+    public Object getDirect() {
+        return samples[next()].getName();
+    }
+
+    @Benchmark
+    public Object getFieldMetadata() throws Exception {
+        int i = next();
+        return fields[i].get(samples[i]);
+    }
+
+    @Benchmark
+    public Object getReflectInvoke() throws Exception {
+        return reflectInvoke.getFieldValue(samples[next()], "name");
+    }
+
+    @Benchmark
+    public Object getLambdaInvoke() {
+        return lambdaInvoke.getFieldValue(samples[next()], "name");
+    }
+
+    @Benchmark
+    public Object getLambdaInvokeSlot() {
+        int i = next();
+        return lambdaInvoke.getFieldValue(samples[i], slots[i]);
+    }
+
+    @Benchmark
+    public Object getReflects() throws Exception {
+        return Reflects.getFieldValue(samples[next()], "name");
+    }
+
+    // ---------------- 字段写入 ----------------
+
+    @Benchmark
+    public void setDirect() {
+        samples[next()].setName("x");
+    }
+
+    @Benchmark
+    public void setFieldMetadata() throws Exception {
+        int i = next();
+        fields[i].set(samples[i], "x");
+    }
+
+    @Benchmark
+    public void setReflectInvoke() throws Exception {
+        reflectInvoke.setFieldValue(samples[next()], "name", "x");
+    }
+
+    @Benchmark
+    public void setLambdaInvoke() {
+        lambdaInvoke.setFieldValue(samples[next()], "name", "x");
+    }
+
+    @Benchmark
+    public void setLambdaInvokeSlot() {
+        int i = next();
+        lambdaInvoke.setFieldValue(samples[i], slots[i], "x");
+    }
+
+    @Benchmark
+    public void setReflects() throws Exception {
+        Reflects.setFieldValue(samples[next()], "name", "x");
+    }
+
+    // ---------------- getter / setter（MethodMetadata，MethodHandle） ----------------
+
+    @Benchmark
+    public Object getterMethodMetadata() throws Exception {
+        int i = next();
+        return getters[i].invoke(samples[i]);
+    }
+
+    @Benchmark
+    public Object setterMethodMetadata() throws Exception {
+        int i = next();
+        return setters[i].invoke(samples[i], "x");
+    }
+
+    // ---------------- 按名称调用方法 ----------------
+
+    @Benchmark
+    public Object invokeReflectInvoke() throws Exception {
+        return reflectInvoke.invokeMethod(samples[next()], "setAge", INT_PARAM, 30);
+    }
+
+    @Benchmark
+    public Object invokeLambdaInvoke() throws Exception {
+        return lambdaInvoke.invokeMethod(samples[next()], "setAge", INT_PARAM, 30);
+    }
+
+    @Benchmark
+    public Object invokeReflects() throws Exception {
+        return Reflects.invokeMethod(samples[next()], "setAge", 30);
+    }
+
+    // ---------------- 构造器 ----------------
+
+    @Benchmark
+    public Object newConstructorMetadata() throws Exception {
+        return constructors[next()].instance();
+    }
+
+    @Benchmark
+    public Object newReflects() throws Exception {
+        return Reflects.newInstance(types[next()]);
+    }
+
+    @Benchmark
+    public Object newReflectsWithArgs() throws Exception {
+        return Reflects.newInstance(types[next()], "x");
+    }
+
+    // ---------------- 属性拷贝 ----------------
+
+    @Benchmark
+    public Object copyProperties() {
+        Beans.copyProperties(samples[next()], target);
+        return target;
+    }
+}
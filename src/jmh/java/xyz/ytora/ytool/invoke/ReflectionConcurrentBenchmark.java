@@ -0,0 +1,16 @@
+package xyz.ytora.ytool.invoke;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * created by yangtong on 2026/10/18 20:44:52
+ * <br/>
+ * {@link ReflectionBenchmark} 的多线程版本：4 个线程同时调用，每个线程持有自己的实例，
+ * 只共享 ClassCache / ClassValue 等全局缓存，用来观察缓存读路径上的竞争
+ * <p>
+ * 运行：java -jar target/benchmarks.jar ReflectionConcurrentBenchmark -rf json -rff target/jmh-reflection-mt.json
+ * </p>
+ */
+@Threads(4)
+public class ReflectionConcurrentBenchmark extends ReflectionBenchmark {
+}
@@ -0,0 +1,283 @@
+package xyz.ytora.ytool.invoke;
+
+/**
+ * created by yangtong on 2026/10/18 20:31:04
+ * <br/>
+ * 反射基准测试使用的 Bean：四个结构相同的类，单态场景只用 {@link Alpha}，多态场景轮流使用四个类，
+ * 让调用点看到多个接收者类型
+ */
+public final class Samples {
+
+    private Samples() {
+    }
+
+    /**
+     * 调用点形态，对应 @Param 的取值
+     */
+    public static final String MONO = "mono";
+    public static final String MEGA = "mega";
+
+    /**
+     * 多态场景下的类型个数，必须是 2 的幂
+     */
+    public static final int SHAPES = 4;
+
+    /**
+     * 单态场景只返回 Alpha，多态场景返回四个类
+     */
+    public static Class<?>[] types(String shape) {
+        return switch (shape) {
+            case MONO -> new Class<?>[]{Alpha.class, Alpha.class, Alpha.class, Alpha.class};
+            case MEGA -> new Class<?>[]{Alpha.class, Beta.class, Gamma.class, Delta.class};
+            default -> throw new IllegalArgumentException("未知形态: " + shape);
+        };
+    }
+
+    /**
+     * 按 types(shape) 创建实例
+     */
+    public static Sample[] create(String shape) {
+        Class<?>[] types = types(shape);
+        Sample[] samples = new Sample[types.length];
+        for (int i = 0; i < types.length; i++) {
+            samples[i] = create(types[i], i);
+        }
+        return samples;
+    }
+
+    private static Sample create(Class<?> type, int seed) {
+        Sample sample;
+        if (type == Alpha.class) {
+            sample = new Alpha();
+        } else if (type == Beta.class) {
+            sample = new Beta();
+        } else if (type == Gamma.class) {
+            sample = new Gamma();
+        } else {
+            sample = new Delta();
+        }
+        sample.setName("sample-" + seed);
+        sample.setAge(20 + seed);
+        sample.setScore(seed * 1.5d);
+        return sample;
+    }
+
+    public interface Sample {
+        String getName();
+
+        void setName(String name);
+
+        int getAge();
+
+        void setAge(int age);
+
+        double getScore();
+
+        void setScore(double score);
+    }
+
+    /**
+     * Beans.copyProperties 的目标类型
+     */
+    public static class Target {
+        private String name;
+        private int age;
+        private double score;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+
+    public static class Alpha implements Sample {
+        private String name;
+        private int age;
+        private double score;
+
+        public Alpha() {
+        }
+
+        public Alpha(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int getAge() {
+            return age;
+        }
+
+        @Override
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+
+    public static class Beta implements Sample {
+        private String name;
+        private int age;
+        private double score;
+
+        public Beta() {
+        }
+
+        public Beta(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int getAge() {
+            return age;
+        }
+
+        @Override
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+
+    public static class Gamma implements Sample {
+        private String name;
+        private int age;
+        private double score;
+
+        public Gamma() {
+        }
+
+        public Gamma(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int getAge() {
+            return age;
+        }
+
+        @Override
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+
+    public static class Delta implements Sample {
+        private String name;
+        private int age;
+        private double score;
+
+        public Delta() {
+        }
+
+        public Delta(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int getAge() {
+            return age;
+        }
+
+        @Override
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        @Override
+        public double getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+}
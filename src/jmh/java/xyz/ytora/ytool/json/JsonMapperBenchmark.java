@@ -0,0 +1,49 @@
+package xyz.ytora.ytool.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * created by yangtong on 2026/10/18 13:58:27
+ * <br/>
+ * JsonMapper 序列化/反序列化吞吐量
+ * <p>
+ * 运行：mvn -Pjmh package -DskipTests && java -jar target/benchmarks.jar JsonMapperBenchmark -prof gc -rf json -rff target/jmh-json.json
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonMapperBenchmark {
+
+    @Param({Payloads.SMALL, Payloads.DEEP, Payloads.ARRAY, Payloads.STRING, Payloads.NUMBER})
+    public String payload;
+
+    private JsonMapper mapper;
+    private Object bean;
+    private String json;
+    private Type type;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.createDefault();
+        bean = Payloads.create(payload);
+        json = mapper.toJson(bean);
+        type = Payloads.typeOf(payload);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return mapper.toJson(bean);
+    }
+
+    @Benchmark
+    public Object fromJson() {
+        return mapper.fromJson(json, type);
+    }
+}
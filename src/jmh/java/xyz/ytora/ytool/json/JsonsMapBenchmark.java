@@ -0,0 +1,47 @@
+package xyz.ytora.ytool.json;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * created by yangtong on 2026/10/18 14:06:50
+ * <br/>
+ * Jsons.toMap / Jsons.fromMap 吞吐量
+ * <p>
+ * 运行：java -jar target/benchmarks.jar JsonsMapBenchmark -prof gc -rf json -rff target/jmh-map.json
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonsMapBenchmark {
+
+    @Param({Payloads.SMALL, Payloads.DEEP, Payloads.ARRAY, Payloads.STRING, Payloads.NUMBER})
+    public String payload;
+
+    private Object bean;
+    private Map<String, Object> map;
+    private Class<?> type;
+
+    @Setup
+    public void setup() {
+        bean = Payloads.create(payload);
+        map = Payloads.asMap(JsonMapper.createDefault(), bean);
+        type = (Class<?>) Payloads.typeOf(payload);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return Jsons.toMap(bean);
+    }
+
+    @Benchmark
+    public Object fromMap() {
+        return Jsons.fromMap(map, type);
+    }
+}
@@ -0,0 +1,304 @@
+package xyz.ytora.ytool.json;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * created by yangtong on 2026/10/18 13:40:11
+ * <br/>
+ * JSON 基准测试使用的典型负载：小 DTO、深层嵌套、大数组、字符串密集、数字密集
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * 负载名称，对应 @Param 的取值
+     */
+    public static final String SMALL = "small";
+    public static final String DEEP = "deep";
+    public static final String ARRAY = "array";
+    public static final String STRING = "string";
+    public static final String NUMBER = "number";
+
+    /**
+     * 根据名称创建负载对象
+     */
+    public static Object create(String name) {
+        return switch (name) {
+            case SMALL -> small(1);
+            case DEEP -> deep(64);
+            case ARRAY -> array(1000);
+            case STRING -> strings(64);
+            case NUMBER -> numbers(2000);
+            default -> throw new IllegalArgumentException("未知负载: " + name);
+        };
+    }
+
+    /**
+     * 负载对应的反序列化目标类型
+     */
+    public static Type typeOf(String name) {
+        return switch (name) {
+            case SMALL -> SmallDto.class;
+            case DEEP -> Node.class;
+            case ARRAY -> ItemPage.class;
+            case STRING -> Article.class;
+            case NUMBER -> Series.class;
+            default -> throw new IllegalArgumentException("未知负载: " + name);
+        };
+    }
+
+    public static SmallDto small(int seed) {
+        SmallDto dto = new SmallDto();
+        dto.setId(100000L + seed);
+        dto.setName("user-" + seed);
+        dto.setAge(20 + seed % 50);
+        dto.setActive(seed % 2 == 0);
+        dto.setScore(seed * 1.25d);
+        dto.setEmail("user" + seed + "@ytora.xyz");
+        return dto;
+    }
+
+    public static Node deep(int depth) {
+        Node root = new Node();
+        Node cur = root;
+        for (int i = 0; i < depth; i++) {
+            cur.setName("level-" + i);
+            cur.setLevel(i);
+            if (i < depth - 1) {
+                Node child = new Node();
+                cur.setChild(child);
+                cur = child;
+            }
+        }
+        return root;
+    }
+
+    public static ItemPage array(int size) {
+        List<SmallDto> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(small(i));
+        }
+        ItemPage page = new ItemPage();
+        page.setTotal(size);
+        page.setItems(items);
+        return page;
+    }
+
+    public static Article strings(int paragraphs) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < paragraphs; i++) {
+            body.append("第").append(i).append("段：The \"quick\" brown fox\tjumps over the lazy dog \\ 中文内容混排。\n");
+        }
+        Article article = new Article();
+        article.setTitle("字符串密集型文档 \"title\"");
+        article.setAuthor("yangtong");
+        article.setBody(body.toString());
+        article.setSummary(body.substring(0, Math.min(200, body.length())));
+        return article;
+    }
+
+    public static Series numbers(int size) {
+        long[] ids = new long[size];
+        double[] values = new double[size];
+        int[] counts = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = 1_700_000_000_000L + i * 7919L;
+            values[i] = Math.sin(i) * 12345.678;
+            counts[i] = i * 31 % 1000;
+        }
+        Series series = new Series();
+        series.setIds(ids);
+        series.setValues(values);
+        series.setCounts(counts);
+        return series;
+    }
+
+    /**
+     * 将对象转为 Map 负载，供 fromMap 测试使用
+     */
+    public static Map<String, Object> asMap(JsonMapper mapper, Object payload) {
+        return mapper.fromJson(mapper.toJson(payload), Jsons.MAP_OF_STRING_OBJECT);
+    }
+
+    public static class SmallDto {
+        private long id;
+        private String name;
+        private int age;
+        private boolean active;
+        private double score;
+        private String email;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+    }
+
+    public static class Node {
+        private String name;
+        private int level;
+        private Node child;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public Node getChild() {
+            return child;
+        }
+
+        public void setChild(Node child) {
+            this.child = child;
+        }
+    }
+
+    public static class ItemPage {
+        private int total;
+        private List<SmallDto> items;
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public List<SmallDto> getItems() {
+            return items;
+        }
+
+        public void setItems(List<SmallDto> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Article {
+        private String title;
+        private String author;
+        private String summary;
+        private String body;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getAuthor() {
+            return author;
+        }
+
+        public void setAuthor(String author) {
+            this.author = author;
+        }
+
+        public String getSummary() {
+            return summary;
+        }
+
+        public void setSummary(String summary) {
+            this.summary = summary;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public void setBody(String body) {
+            this.body = body;
+        }
+    }
+
+    public static class Series {
+        private long[] ids;
+        private double[] values;
+        private int[] counts;
+
+        public long[] getIds() {
+            return ids;
+        }
+
+        public void setIds(long[] ids) {
+            this.ids = ids;
+        }
+
+        public double[] getValues() {
+            return values;
+        }
+
+        public void setValues(double[] values) {
+            this.values = values;
+        }
+
+        public int[] getCounts() {
+            return counts;
+        }
+
+        public void setCounts(int[] counts) {
+            this.counts = counts;
+        }
+    }
+}
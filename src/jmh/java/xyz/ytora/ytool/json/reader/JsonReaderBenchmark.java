@@ -0,0 +1,53 @@
+package xyz.ytora.ytool.json.reader;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.ytora.ytool.json.JsonMapper;
+import xyz.ytora.ytool.json.JsonToken;
+import xyz.ytora.ytool.json.Payloads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * created by yangtong on 2026/10/18 14:12:03
+ * <br/>
+ * JsonReader 分词吞吐量（只读 token，不绑定对象）
+ * <p>
+ * 运行：java -jar target/benchmarks.jar JsonReaderBenchmark -prof gc -rf json -rff target/jmh-reader.json
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonReaderBenchmark {
+
+    @Param({Payloads.SMALL, Payloads.DEEP, Payloads.ARRAY, Payloads.STRING, Payloads.NUMBER})
+    public String payload;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = JsonMapper.createDefault().toJson(Payloads.create(payload));
+    }
+
+    @Benchmark
+    public int tokenize(Blackhole bh) {
+        JsonReader r = new JsonReader(json);
+        int tokens = 0;
+        for (JsonToken t = r.next(); t != JsonToken.EOF; t = r.next()) {
+            switch (t) {
+                case VALUE_STRING, FIELD_NAME -> bh.consume(r.string());
+                case VALUE_NUMBER -> bh.consume(r.isDoubleNumber() ? r.doubleVal() : r.longVal());
+                case VALUE_BOOLEAN -> bh.consume(r.boolVal());
+                default -> {
+                }
+            }
+            tokens++;
+        }
+        return tokens;
+    }
+}
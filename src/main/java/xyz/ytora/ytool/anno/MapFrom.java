@@ -0,0 +1,23 @@
+package xyz.ytora.ytool.anno;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * created by yangtong on 2026/10/18 21:02:18
+ * <br/>
+ * 映射目标属性的取值路径，标注在目标类型的字段或 setter 上，见 {@link xyz.ytora.ytool.bean.BeanMapper}。
+ * 例如 {@code @MapFrom("dept.leader.name") private String leaderName;}
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = {ElementType.FIELD, ElementType.METHOD})
+public @interface MapFrom {
+
+    /**
+     * 源对象上的属性路径，用 . 分隔，路径上任一环节为 null 时取值为 null
+     */
+    String value();
+
+}
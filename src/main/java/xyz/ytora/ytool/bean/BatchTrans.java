@@ -0,0 +1,124 @@
+package xyz.ytora.ytool.bean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * created by yangtong on 2026/10/18 17:12:20
+ * <br/>
+ * 批量 Bean 转换：结果数组按源列表大小预先分配，每段只在元素类型变化时重新获取复制计划；
+ * 元素较多时按下标区间拆分到 ForkJoinPool 中执行，各任务只写自己的区间，因此结果顺序与源列表一致
+ */
+final class BatchTrans<R> {
+
+    /**
+     * 并行时每个任务处理的最少元素个数
+     */
+    private static final int MIN_CHUNK = 512;
+
+    private final List<?> sources;
+    private final List<R> recycled;
+    private final Class<R> targetClass;
+    private final CopyOptions copyOptions;
+    private final Object[] out;
+
+    private BatchTrans(List<?> sources, List<R> recycled, Class<R> targetClass, CopyOptions copyOptions) {
+        this.sources = sources;
+        this.recycled = recycled;
+        this.targetClass = targetClass;
+        this.copyOptions = copyOptions;
+        this.out = new Object[sources.size()];
+    }
+
+    /**
+     * @param recycled 可复用的目标对象，第 i 个非 null 元素会被第 i 个源对象覆盖写入，为 null 时总是新建
+     */
+    @SuppressWarnings("unchecked")
+    static <R> List<R> trans(List<?> sources, List<R> recycled, Class<R> targetClass, TransOptions options) {
+        if (sources == null || targetClass == null) {
+            throw new IllegalArgumentException("源列表或目标类型不能为空");
+        }
+        TransOptions opts = options == null ? TransOptions.DEFAULT : options;
+        BatchTrans<R> batch = new BatchTrans<>(randomAccess(sources), recycled == null ? null : randomAccess(recycled),
+                targetClass, opts.copyOptions());
+
+        int n = batch.out.length;
+        int parallelism = opts.effectiveParallelism();
+        if (n < opts.parallelThreshold() || parallelism <= 1) {
+            batch.copyRange(0, n);
+        } else {
+            batch.copyParallel(opts, parallelism);
+        }
+        return Collections.unmodifiableList(Arrays.asList((R[]) batch.out));
+    }
+
+    private void copyParallel(TransOptions opts, int parallelism) {
+        int n = out.length;
+        // 每个线程约分到 4 段，便于工作窃取平衡负载
+        int grain = Math.max(MIN_CHUNK, n / (parallelism * 4) + 1);
+        ForkJoinPool own = null;
+        ForkJoinPool pool = opts.pool();
+        if (pool == null) {
+            pool = opts.parallelism() > 0 ? (own = new ForkJoinPool(opts.parallelism())) : ForkJoinPool.commonPool();
+        }
+        try {
+            pool.invoke(new Chunk(0, n, grain));
+        } finally {
+            if (own != null) {
+                own.shutdown();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void copyRange(int from, int to) {
+        BeanCopier<Object, R> copier = null;
+        for (int i = from; i < to; i++) {
+            Object source = sources.get(i);
+            if (source == null) {
+                continue;
+            }
+            if (copier == null || copier.getSourceClass() != source.getClass()) {
+                copier = (BeanCopier<Object, R>) BeanCopier.of(source.getClass(), targetClass, copyOptions);
+            }
+            R target = recycled != null && i < recycled.size() ? recycled.get(i) : null;
+            if (target == null) {
+                out[i] = copier.copy(source);
+            } else {
+                copier.copy(source, target);
+                out[i] = target;
+            }
+        }
+    }
+
+    private static <E> List<E> randomAccess(List<E> list) {
+        return list instanceof RandomAccess ? list : new ArrayList<>(list);
+    }
+
+    private final class Chunk extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        Chunk(int from, int to, int grain) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                copyRange(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Chunk(from, mid, grain), new Chunk(mid, to, grain));
+        }
+    }
+}
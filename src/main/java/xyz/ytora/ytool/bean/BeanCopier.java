@@ -0,0 +1,237 @@
+package xyz.ytora.ytool.bean;
+
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
+import xyz.ytora.ytool.invoke.Reflects;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * created by yangtong on 2026/10/18 16:42:30
+ * <br/>
+ * 编译好的属性复制计划：每个 (源类型, 目标类型, 复制选项) 只解析一次并缓存，
+ * 复制时按预先配对好的属性逐个执行，不再做名称查找、类型判断和转换器选择。
+ * <pre>
+ * BeanCopier&lt;User, UserDTO&gt; copier = BeanCopier.of(User.class, UserDTO.class);
+ * UserDTO dto = copier.copy(user);
+ * </pre>
+ */
+public final class BeanCopier<S, T> {
+
+    /**
+     * 复制计划同时引用源类型和目标类型，挂在两者中类加载器层级较低（存活较短）的一方上，
+     * 避免父加载器中的类通过缓存拖住子加载器中的类，见 {@link BeanTypes#cacheOwner(Class, Class)}
+     */
+    private static final ClassValue<Map<PlanKey, BeanCopier<?, ?>>> COPIERS = new ClassValue<>() {
+        @Override
+        protected Map<PlanKey, BeanCopier<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<S> sourceClass;
+    private final Class<T> targetClass;
+    private final CopyOptions options;
+    /**
+     * 已配对的属性复制步骤，按源类型的属性顺序排列
+     */
+    private final Step[] steps;
+
+    /**
+     * 目标类型的无参构造器，没有时为 null
+     */
+    private final ConstructorMetadata<T> constructor;
+
+    private BeanCopier(Class<S> sourceClass, Class<T> targetClass, CopyOptions options) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.options = options;
+        this.steps = compile(sourceClass, targetClass, options);
+        this.constructor = ClassCache.findConstructor(targetClass);
+    }
+
+    public static <S, T> BeanCopier<S, T> of(Class<S> sourceClass, Class<T> targetClass) {
+        return of(sourceClass, targetClass, CopyOptions.DEFAULT);
+    }
+
+    /**
+     * 获取（必要时编译）复制计划
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> BeanCopier<S, T> of(Class<S> sourceClass, Class<T> targetClass, CopyOptions options) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("源类型或目标类型不能为空");
+        }
+        CopyOptions opts = options == null ? CopyOptions.DEFAULT : options;
+        Map<PlanKey, BeanCopier<?, ?>> copiers = COPIERS.get(BeanTypes.cacheOwner(sourceClass, targetClass));
+        PlanKey key = new PlanKey(sourceClass, targetClass, opts);
+        BeanCopier<?, ?> copier = copiers.get(key);
+        if (copier == null) {
+            copier = copiers.computeIfAbsent(key, k -> new BeanCopier<>(sourceClass, targetClass, opts));
+        }
+        return (BeanCopier<S, T>) copier;
+    }
+
+    /**
+     * 将 source 的属性复制到 target
+     */
+    public void copy(S source, T target) {
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("源对象或目标对象不能为空");
+        }
+        for (Step step : steps) {
+            step.copy(source, target);
+        }
+    }
+
+    /**
+     * 用目标类型的无参构造创建对象，再复制属性
+     */
+    public T copy(S source) {
+        if (source == null) {
+            throw new IllegalArgumentException("源对象不能为空");
+        }
+        T target = newTarget();
+        copy(source, target);
+        return target;
+    }
+
+    /**
+     * 批量复制，复制计划只取一次
+     */
+    public List<T> copyAll(List<? extends S> sources) {
+        List<T> result = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            result.add(source == null ? null : copy(source));
+        }
+        return result;
+    }
+
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    public CopyOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * 参与复制的属性个数
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    private T newTarget() {
+        if (constructor == null) {
+            throw new IllegalStateException("目标类型【" + targetClass.getName() + "】没有无参构造器");
+        }
+        try {
+            return constructor.instance();
+        } catch (Exception e) {
+            throw new RuntimeException("无法创建目标对象：" + e.getMessage(), e);
+        }
+    }
+
+    /* ============================ 编译 ============================ */
+
+    private static Step[] compile(Class<?> sourceClass, Class<?> targetClass, CopyOptions options) {
+        Map<String, PropertyMetadata> targetProperties = ClassCache.get(targetClass).getPropertyMap();
+        List<Step> steps = new ArrayList<>();
+        for (PropertyMetadata sp : ClassCache.get(sourceClass).getProperties()) {
+            if (!sp.isReadable() || options.isIgnored(sp.getName())) {
+                continue;
+            }
+            PropertyMetadata tp = targetProperties.get(sp.getName());
+            if (tp == null || !tp.isWritable()) {
+                continue;
+            }
+            Step step = step(sp, tp, options.ignoreNull());
+            steps.add(options.failFast() ? step : lenient(step));
+        }
+        return steps.toArray(new Step[0]);
+    }
+
+    /**
+     * 宽松模式：读取、转换或写入失败的属性跳过，不影响其余属性
+     */
+    private static Step lenient(Step step) {
+        return (s, t) -> {
+            try {
+                step.copy(s, t);
+            } catch (RuntimeException ignored) {
+                // 跳过该属性
+            }
+        };
+    }
+
+    /**
+     * 根据两端的声明类型选定复制方式：基本类型之间不装箱直接复制，类型兼容时直接赋值，否则预先绑定转换
+     */
+    private static Step step(PropertyMetadata sp, PropertyMetadata tp, boolean ignoreNull) {
+        Class<?> from = sp.getter().returnType();
+        Class<?> to = tp.setter().getOriginMethod().getParameterTypes()[0];
+
+        if (from == int.class && to == int.class) {
+            return (s, t) -> tp.setInt(t, sp.getInt(s));
+        }
+        if ((from == int.class || from == long.class) && to == long.class) {
+            return (s, t) -> tp.setLong(t, sp.getLong(s));
+        }
+        if ((from == int.class || from == long.class || from == float.class || from == double.class) && to == double.class) {
+            return (s, t) -> tp.setDouble(t, sp.getDouble(s));
+        }
+
+        // 基本类型的 setter 无法接收 null，此时无论选项如何都跳过
+        boolean skipNull = ignoreNull || to.isPrimitive();
+        Class<?> toWrapper = Reflects.primitiveToWrapper(to);
+        if (toWrapper.isAssignableFrom(Reflects.primitiveToWrapper(from))) {
+            return skipNull
+                    ? (s, t) -> {
+                        Object v = sp.get(s);
+                        if (v != null) tp.set(t, v);
+                    }
+                    : (s, t) -> tp.set(t, sp.get(s));
+        }
+
+        // 声明类型不兼容：运行期值可能仍兼容（例如源类型声明为 Object），否则用按声明类型预先取好的转换器转换
+        Function<Object, Object> converter = BeanTypes.converter(from, toWrapper);
+        return (s, t) -> {
+            Object v = sp.get(s);
+            if (v == null) {
+                if (!skipNull) tp.set(t, null);
+                return;
+            }
+            if (!toWrapper.isInstance(v)) {
+                v = converter.apply(v);
+                if (v == null && skipNull) return;
+            }
+            tp.set(t, v);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "BeanCopier[" + sourceClass.getName() + " -> " + targetClass.getName() + ", " + steps.length + " properties]";
+    }
+
+    /**
+     * 单个属性的复制步骤
+     */
+    @FunctionalInterface
+    private interface Step {
+        void copy(Object source, Object target);
+    }
+
+    private record PlanKey(Class<?> sourceClass, Class<?> targetClass, CopyOptions options) {
+    }
+}
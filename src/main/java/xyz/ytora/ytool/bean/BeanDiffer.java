@@ -0,0 +1,128 @@
+package xyz.ytora.ytool.bean;
+
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * created by yangtong on 2026/10/18 18:12:40
+ * <br/>
+ * 属性级对比，见 {@link Beans#diff(Object, Object)}。
+ * 每个类型编译一次对比计划：基本类型属性按 int/long/double 读取后直接比较，只有不相等时才装箱记录；
+ * 引用类型属性先比较引用，再用 equals 比较；声明类型为普通 Bean 的属性递归对比，路径用 . 连接
+ */
+final class BeanDiffer {
+
+    private static final ClassValue<Comparison[]> PLANS = new ClassValue<>() {
+        @Override
+        protected Comparison[] computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final List<PropertyChange> changes = new ArrayList<>();
+    /**
+     * 当前递归路径上的对象，用于避免循环引用导致无限递归
+     */
+    private final IdentityHashMap<Object, Boolean> visiting = new IdentityHashMap<>();
+
+    private BeanDiffer() {
+    }
+
+    static List<PropertyChange> diff(Object oldBean, Object newBean) {
+        if (oldBean == null || newBean == null) {
+            throw new IllegalArgumentException("对比的对象不能为空");
+        }
+        if (oldBean.getClass() != newBean.getClass()) {
+            throw new IllegalArgumentException("只能对比同一类型的对象：" + oldBean.getClass().getName()
+                    + " 与 " + newBean.getClass().getName());
+        }
+        if (oldBean == newBean) {
+            return Collections.emptyList();
+        }
+        BeanDiffer differ = new BeanDiffer();
+        differ.diff(oldBean, newBean, "");
+        return differ.changes.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(differ.changes);
+    }
+
+    private void diff(Object a, Object b, String prefix) {
+        if (visiting.put(a, Boolean.TRUE) != null) {
+            return;
+        }
+        for (Comparison c : PLANS.get(a.getClass())) {
+            c.compare(a, b, prefix, this);
+        }
+        visiting.remove(a);
+    }
+
+    private void record(String prefix, PropertyMetadata p, int index, Object oldValue, Object newValue) {
+        changes.add(new PropertyChange(prefix.isEmpty() ? p.getName() : prefix + p.getName(), index, oldValue, newValue));
+    }
+
+    /* ============================ 编译 ============================ */
+
+    @FunctionalInterface
+    private interface Comparison {
+        void compare(Object a, Object b, String prefix, BeanDiffer ctx);
+    }
+
+    private static Comparison[] compile(Class<?> type) {
+        List<PropertyMetadata> properties = ClassCache.get(type).getProperties();
+        List<Comparison> list = new ArrayList<>(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            PropertyMetadata p = properties.get(i);
+            if (p.isReadable()) {
+                list.add(comparison(p, i));
+            }
+        }
+        return list.toArray(new Comparison[0]);
+    }
+
+    private static Comparison comparison(PropertyMetadata p, int index) {
+        Class<?> type = p.getter().returnType();
+        if (type == int.class || type == short.class || type == byte.class || type == char.class) {
+            return (a, b, prefix, ctx) -> {
+                int x = p.getInt(a), y = p.getInt(b);
+                if (x != y) ctx.record(prefix, p, index, p.get(a), p.get(b));
+            };
+        }
+        if (type == long.class) {
+            return (a, b, prefix, ctx) -> {
+                long x = p.getLong(a), y = p.getLong(b);
+                if (x != y) ctx.record(prefix, p, index, x, y);
+            };
+        }
+        if (type == double.class || type == float.class) {
+            return (a, b, prefix, ctx) -> {
+                double x = p.getDouble(a), y = p.getDouble(b);
+                // 与 Double.equals 一致：NaN 等于 NaN，0.0 不等于 -0.0
+                if (Double.doubleToLongBits(x) != Double.doubleToLongBits(y)) {
+                    ctx.record(prefix, p, index, p.get(a), p.get(b));
+                }
+            };
+        }
+        // 声明类型为项目内的普通 Bean 时按属性递归对比，其余类型（JDK 类型、枚举、数组、容器）整体用 equals 对比
+        if (BeanTypes.isBean(type)) {
+            String nestedPrefix = p.getName() + ".";
+            return (a, b, prefix, ctx) -> {
+                Object x = p.get(a), y = p.get(b);
+                if (x == y) return;
+                if (x == null || y == null || x.getClass() != y.getClass()) {
+                    ctx.record(prefix, p, index, x, y);
+                } else {
+                    ctx.diff(x, y, prefix + nestedPrefix);
+                }
+            };
+        }
+        // boolean 读取的是缓存的 Boolean，不产生新对象
+        return (a, b, prefix, ctx) -> {
+            Object x = p.get(a), y = p.get(b);
+            if (x != y && !Objects.equals(x, y)) ctx.record(prefix, p, index, x, y);
+        };
+    }
+}
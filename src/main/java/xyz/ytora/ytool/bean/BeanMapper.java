@@ -0,0 +1,450 @@
+package xyz.ytora.ytool.bean;
+
+import xyz.ytora.ytool.anno.MapFrom;
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
+import xyz.ytora.ytool.convert.Converts;
+import xyz.ytora.ytool.invoke.Reflects;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * created by yangtong on 2026/10/18 21:10:44
+ * <br/>
+ * 编译好的 Bean 映射计划，用于把实体对象图映射为嵌套的响应 DTO：
+ * - 目标属性默认取源对象的同名属性，可用 {@link MapFrom} 或 {@link Builder#map(String, String)} 指定取值路径（如 dept.leader.name），
+ * 路径上任一环节为 null 时取值为 null；
+ * - 两端都是项目内的 Bean 且类型不兼容时，按 (源类型, 目标类型) 的映射计划递归映射；
+ * - 集合属性的元素类型不同时逐个元素映射（Bean 元素递归映射，其余元素按 {@link Converts} 转换），
+ * 结果放入按源集合大小预分配的 ArrayList/LinkedHashSet/TreeSet/ArrayDeque，目标集合类型无法创建或有元素转换失败时跳过该属性；
+ * - 其余类型不兼容的属性按 {@link Converts} 转换，转换失败时跳过。
+ * 每个 (源类型, 目标类型) 只解析一次并缓存。映射按树处理，对象图中有循环引用时会无限递归
+ * <pre>
+ * public class UserVO {
+ *     private String name;
+ *     &#64;MapFrom("dept.name")
+ *     private String deptName;
+ *     private List&lt;RoleVO&gt; roles;
+ * }
+ * UserVO vo = BeanMapper.of(User.class, UserVO.class).map(user);
+ * </pre>
+ */
+public final class BeanMapper<S, T> {
+
+    /**
+     * 映射计划同时引用源类型和目标类型，挂在两者中类加载器层级较低的一方上，见 {@link BeanTypes#cacheOwner(Class, Class)}
+     */
+    private static final ClassValue<Map<PlanKey, BeanMapper<?, ?>>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected Map<PlanKey, BeanMapper<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 转换失败的标记，此时不写入目标属性
+     */
+    private static final Object SKIP = new Object();
+
+    private final Class<S> sourceClass;
+    private final Class<T> targetClass;
+    /**
+     * 按目标类型属性顺序排列的映射步骤
+     */
+    private final Step[] steps;
+    /**
+     * 目标类型的无参构造器，没有时为 null
+     */
+    private final ConstructorMetadata<T> constructor;
+
+    private BeanMapper(Class<S> sourceClass, Class<T> targetClass, Map<String, String> paths, Set<String> ignored) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.steps = compile(sourceClass, targetClass, paths, ignored);
+        this.constructor = ClassCache.findConstructor(targetClass);
+    }
+
+    /**
+     * 获取（必要时编译）映射计划，取值路径来自目标类型上的 {@link MapFrom}
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> BeanMapper<S, T> of(Class<S> sourceClass, Class<T> targetClass) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("源类型或目标类型不能为空");
+        }
+        Map<PlanKey, BeanMapper<?, ?>> mappers = MAPPERS.get(BeanTypes.cacheOwner(sourceClass, targetClass));
+        PlanKey key = new PlanKey(sourceClass, targetClass);
+        BeanMapper<?, ?> mapper = mappers.get(key);
+        if (mapper == null) {
+            mapper = mappers.computeIfAbsent(key,
+                    k -> new BeanMapper<>(sourceClass, targetClass, Map.of(), Set.of()));
+        }
+        return (BeanMapper<S, T>) mapper;
+    }
+
+    /**
+     * 用代码配置取值路径和忽略的属性，构建出的计划不进入全局缓存，由调用方持有
+     */
+    public static <S, T> Builder<S, T> builder(Class<S> sourceClass, Class<T> targetClass) {
+        if (sourceClass == null || targetClass == null) {
+            throw new IllegalArgumentException("源类型或目标类型不能为空");
+        }
+        return new Builder<>(sourceClass, targetClass);
+    }
+
+    /**
+     * 用目标类型的无参构造创建对象并映射
+     *
+     * @return source 为 null 时返回 null
+     */
+    public T map(S source) {
+        if (source == null) {
+            return null;
+        }
+        T target = newTarget();
+        map(source, target);
+        return target;
+    }
+
+    /**
+     * 将 source 映射到已有的 target 上
+     */
+    public void map(S source, T target) {
+        if (source == null || target == null) {
+            throw new IllegalArgumentException("源对象或目标对象不能为空");
+        }
+        for (Step step : steps) {
+            step.map(source, target);
+        }
+    }
+
+    /**
+     * 批量映射，结果列表与源列表等长、顺序一致（源元素为 null 时结果也为 null）
+     */
+    public List<T> mapAll(List<? extends S> sources) {
+        List<T> result = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            result.add(map(source));
+        }
+        return result;
+    }
+
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 参与映射的目标属性个数
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    private T newTarget() {
+        if (constructor == null) {
+            throw new IllegalStateException("目标类型【" + targetClass.getName() + "】没有无参构造器");
+        }
+        try {
+            return constructor.instance();
+        } catch (Exception e) {
+            throw new RuntimeException("无法创建目标对象：" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 按源对象的实际类型取映射计划并映射
+     */
+    @SuppressWarnings("unchecked")
+    private static Object mapNested(Object value, Class<?> targetClass) {
+        return of((Class<Object>) value.getClass(), targetClass).map(value);
+    }
+
+    /* ============================ 编译 ============================ */
+
+    private static Step[] compile(Class<?> sourceClass, Class<?> targetClass, Map<String, String> paths, Set<String> ignored) {
+        Map<String, PropertyMetadata> sourceProperties = ClassCache.get(sourceClass).getPropertyMap();
+        List<Step> steps = new ArrayList<>();
+        for (PropertyMetadata tp : ClassCache.get(targetClass).getProperties()) {
+            if (!tp.isWritable() || ignored.contains(tp.getName())) {
+                continue;
+            }
+            String path = paths.get(tp.getName());
+            if (path == null) {
+                path = annotatedPath(tp);
+            }
+            PropertyMetadata[] chain;
+            if (path == null) {
+                // 未指定路径时取同名属性，源类型没有该属性则跳过
+                PropertyMetadata sp = sourceProperties.get(tp.getName());
+                if (sp == null || !sp.isReadable()) {
+                    continue;
+                }
+                chain = new PropertyMetadata[]{sp};
+            } else {
+                chain = resolve(sourceClass, path);
+            }
+            steps.add(step(chain, tp));
+        }
+        return steps.toArray(new Step[0]);
+    }
+
+    private static String annotatedPath(PropertyMetadata tp) {
+        FieldMetadata field = tp.field();
+        MapFrom mapFrom = field == null ? null : field.getAnnotation(MapFrom.class);
+        if (mapFrom == null) {
+            mapFrom = tp.setter().getAnnotation(MapFrom.class);
+        }
+        return mapFrom == null ? null : mapFrom.value();
+    }
+
+    /**
+     * 沿声明类型逐段解析属性路径，指定的路径必须存在
+     */
+    private static PropertyMetadata[] resolve(Class<?> sourceClass, String path) {
+        String[] segments = path.split("\\.");
+        PropertyMetadata[] chain = new PropertyMetadata[segments.length];
+        Class<?> type = sourceClass;
+        for (int i = 0; i < segments.length; i++) {
+            PropertyMetadata p = BeanTypes.isBean(type) ? ClassCache.get(type).getPropertyMap().get(segments[i]) : null;
+            if (p == null || !p.isReadable()) {
+                throw new IllegalArgumentException("属性路径【" + path + "】中的【" + segments[i] + "】在【" + type.getName() + "】中不存在或不可读");
+            }
+            chain[i] = p;
+            type = p.getType();
+        }
+        return chain;
+    }
+
+    /**
+     * 根据路径末端属性和目标属性的声明类型选定映射方式
+     */
+    private static Step step(PropertyMetadata[] chain, PropertyMetadata tp) {
+        PropertyMetadata last = chain[chain.length - 1];
+        Class<?> from = last.getType();
+        Class<?> to = tp.setter().getOriginMethod().getParameterTypes()[0];
+
+        // 单段路径的基本类型之间不装箱直接复制
+        if (chain.length == 1) {
+            if (from == int.class && to == int.class) {
+                return (s, t) -> tp.setInt(t, last.getInt(s));
+            }
+            if ((from == int.class || from == long.class) && to == long.class) {
+                return (s, t) -> tp.setLong(t, last.getLong(s));
+            }
+            if ((from == int.class || from == long.class || from == float.class || from == double.class) && to == double.class) {
+                return (s, t) -> tp.setDouble(t, last.getDouble(s));
+            }
+        }
+
+        Function<Object, Object> reader = reader(chain);
+        Function<Object, Object> adapter = adapter(from, last.getGenericType(), to, tp.setter().genericParameterTypes()[0]);
+        // 基本类型的 setter 无法接收 null，跳过
+        boolean skipNull = to.isPrimitive();
+        if (adapter == null) {
+            return (s, t) -> {
+                Object v = reader.apply(s);
+                if (v != null || !skipNull) tp.set(t, v);
+            };
+        }
+        return (s, t) -> {
+            Object v = reader.apply(s);
+            if (v != null) {
+                v = adapter.apply(v);
+                if (v == SKIP) return;
+            }
+            if (v != null || !skipNull) tp.set(t, v);
+        };
+    }
+
+    /**
+     * 沿属性链取值，中间环节为 null 时返回 null
+     */
+    private static Function<Object, Object> reader(PropertyMetadata[] chain) {
+        if (chain.length == 1) {
+            PropertyMetadata p = chain[0];
+            return p::get;
+        }
+        return s -> {
+            Object v = s;
+            for (PropertyMetadata p : chain) {
+                v = p.get(v);
+                if (v == null) {
+                    return null;
+                }
+            }
+            return v;
+        };
+    }
+
+    /**
+     * 值的适配函数，类型兼容时返回 null 表示原样写入
+     */
+    private static Function<Object, Object> adapter(Class<?> from, Type fromGeneric, Class<?> to, Type toGeneric) {
+        // 集合元素类型不同：逐个元素映射，不能把源集合原样赋给元素类型不同的目标属性
+        if (Collection.class.isAssignableFrom(from) && Collection.class.isAssignableFrom(to)) {
+            Class<?> fromElement = elementType(fromGeneric);
+            Class<?> toElement = elementType(toGeneric);
+            if (!Reflects.primitiveToWrapper(toElement).isAssignableFrom(fromElement)) {
+                IntFunction<Collection<Object>> factory = collectionFactory(to);
+                if (factory == null) {
+                    return v -> SKIP;
+                }
+                Function<Object, Object> element = BeanTypes.isBean(toElement) ? null : BeanTypes.converter(fromElement, toElement);
+                return v -> {
+                    Collection<?> source = (Collection<?>) v;
+                    return mapElements(source, toElement, element, factory.apply(source.size()));
+                };
+            }
+        }
+
+        Class<?> toWrapper = Reflects.primitiveToWrapper(to);
+        if (toWrapper.isAssignableFrom(Reflects.primitiveToWrapper(from))) {
+            return null;
+        }
+        if (BeanTypes.isBean(to)) {
+            return v -> toWrapper.isInstance(v) ? v : mapNested(v, to);
+        }
+        // 声明类型不兼容：运行期值可能仍兼容（例如源类型声明为 Object），否则转换，转换失败则跳过
+        Function<Object, Object> converter = BeanTypes.converter(from, toWrapper);
+        return v -> {
+            if (toWrapper.isInstance(v)) {
+                return v;
+            }
+            try {
+                return converter.apply(v);
+            } catch (RuntimeException e) {
+                return SKIP;
+            }
+        };
+    }
+
+    /**
+     * 按目标属性的声明类型选一个可赋值的标准集合实现，都不可赋值时返回 null
+     */
+    private static IntFunction<Collection<Object>> collectionFactory(Class<?> to) {
+        if (to.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        }
+        if (to.isAssignableFrom(LinkedHashSet.class)) {
+            return size -> new LinkedHashSet<>(BeanTypes.capacity(size));
+        }
+        if (to.isAssignableFrom(TreeSet.class)) {
+            return size -> new TreeSet<>();
+        }
+        if (to.isAssignableFrom(ArrayDeque.class)) {
+            return size -> new ArrayDeque<>(Math.max(size, 1));
+        }
+        return null;
+    }
+
+    /**
+     * 逐个元素映射到 result：element 为 null 时元素是 Bean，按映射计划映射，相邻元素类型相同时复用上一个元素的映射计划；
+     * 否则用 element 转换。有元素无法转换时返回 {@link #SKIP}
+     */
+    @SuppressWarnings("unchecked")
+    private static Object mapElements(Collection<?> source, Class<?> toElement, Function<Object, Object> element,
+                                      Collection<Object> result) {
+        Class<?> toWrapper = Reflects.primitiveToWrapper(toElement);
+        Class<?> lastClass = null;
+        BeanMapper<Object, ?> mapper = null;
+        for (Object e : source) {
+            if (e == null || toWrapper.isInstance(e)) {
+                result.add(e);
+                continue;
+            }
+            if (element != null) {
+                try {
+                    result.add(element.apply(e));
+                } catch (RuntimeException ex) {
+                    return SKIP;
+                }
+                continue;
+            }
+            if (e.getClass() != lastClass) {
+                lastClass = e.getClass();
+                mapper = of((Class<Object>) lastClass, toElement);
+            }
+            result.add(mapper.map(e));
+        }
+        return result;
+    }
+
+    private static Class<?> elementType(Type type) {
+        if (type instanceof ParameterizedType pt && pt.getActualTypeArguments().length == 1
+                && pt.getActualTypeArguments()[0] instanceof Class<?> c) {
+            return c;
+        }
+        return Object.class;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanMapper[" + sourceClass.getName() + " -> " + targetClass.getName() + ", " + steps.length + " properties]";
+    }
+
+    /**
+     * 单个目标属性的映射步骤
+     */
+    @FunctionalInterface
+    private interface Step {
+        void map(Object source, Object target);
+    }
+
+    private record PlanKey(Class<?> sourceClass, Class<?> targetClass) {
+    }
+
+    public static final class Builder<S, T> {
+        private final Class<S> sourceClass;
+        private final Class<T> targetClass;
+        private final Map<String, String> paths = new HashMap<>();
+        private final Set<String> ignored = new HashSet<>();
+
+        private Builder(Class<S> sourceClass, Class<T> targetClass) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+        }
+
+        /**
+         * 目标属性 targetProperty 取源对象上 sourcePath 路径的值，优先于 {@link MapFrom}
+         */
+        public Builder<S, T> map(String targetProperty, String sourcePath) {
+            if (targetProperty == null || sourcePath == null) {
+                throw new IllegalArgumentException("目标属性和取值路径不能为空");
+            }
+            paths.put(targetProperty, sourcePath);
+            return this;
+        }
+
+        /**
+         * 不映射的目标属性
+         */
+        public Builder<S, T> ignore(String... targetProperties) {
+            if (targetProperties != null) {
+                ignored.addAll(Arrays.asList(targetProperties));
+            }
+            return this;
+        }
+
+        public BeanMapper<S, T> build() {
+            Map<String, PropertyMetadata> targetProperties = ClassCache.get(targetClass).getPropertyMap();
+            for (String name : paths.keySet()) {
+                PropertyMetadata tp = targetProperties.get(name);
+                if (tp == null || !tp.isWritable()) {
+                    throw new IllegalArgumentException("目标类型【" + targetClass.getName() + "】没有可写属性【" + name + "】");
+                }
+            }
+            return new BeanMapper<>(sourceClass, targetClass, Map.copyOf(paths), Set.copyOf(ignored));
+        }
+    }
+}
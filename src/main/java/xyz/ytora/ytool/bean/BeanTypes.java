@@ -0,0 +1,62 @@
+package xyz.ytora.ytool.bean;
+
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.convert.Converter;
+import xyz.ytora.ytool.convert.Converts;
+import xyz.ytora.ytool.invoke.Reflects;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * created by yangtong on 2026/10/18 22:36:15
+ * <br/>
+ * bean 包内复制、映射、对比、深拷贝共用的类型判断和小工具
+ */
+final class BeanTypes {
+
+    private BeanTypes() {
+    }
+
+    /**
+     * 项目内的普通 Bean：非平台类型，且不是基本类型、数组、枚举、接口、容器
+     */
+    static boolean isBean(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()
+                || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return false;
+        }
+        return !ClassCache.isPlatform(type);
+    }
+
+    /**
+     * 放入 size 个元素不触发扩容的哈希表初始容量（默认负载因子 0.75）
+     */
+    static int capacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(size / 0.75d));
+    }
+
+    /**
+     * 同时引用 a、b 两个类型的缓存应挂在哪个类型上：挂在类加载器层级较低（存活较短）的一方，
+     * 避免父加载器中的类通过缓存拖住子加载器中的类
+     */
+    static Class<?> cacheOwner(Class<?> a, Class<?> b) {
+        return Reflects.outlives(b, a) ? a : b;
+    }
+
+    /**
+     * 把声明类型为 from 的值转换为 toWrapper：转换器按声明类型预先取好，运行期类型与声明类型不同时（子类、接口实现）
+     * 再按实际类型查找；数字之间的转换由 {@link Converts} 直接处理，不走注册的转换器。无法转换时抛出异常
+     */
+    static Function<Object, Object> converter(Class<?> from, Class<?> toWrapper) {
+        Class<?> fromWrapper = Reflects.primitiveToWrapper(from);
+        Converter<Object, Object> bound = Number.class.isAssignableFrom(fromWrapper) && Number.class.isAssignableFrom(toWrapper)
+                ? null
+                : Converts.get().getConverter(fromWrapper, toWrapper);
+        if (bound == null) {
+            return v -> Converts.convert(v, toWrapper);
+        }
+        return v -> v.getClass() == fromWrapper ? bound.convert(v) : Converts.convert(v, toWrapper);
+    }
+}
@@ -1,19 +1,8 @@
 package xyz.ytora.ytool.bean;
 
-import xyz.ytora.ytool.classcache.ClassCache;
-import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
-import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
-import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
-import xyz.ytora.ytool.convert.Converts;
-import xyz.ytora.ytool.invoke.Reflects;
-import xyz.ytora.ytool.str.Strs;
-
-import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * created by yangtong on 2025/4/4 下午6:40
@@ -23,76 +12,19 @@ import java.util.stream.Collectors;
 public class Beans {
 
     /**
-     * 将source对象的字段复制到target字段
+     * 将source对象的字段复制到target字段，复制计划按 (源类型, 目标类型, 忽略字段) 缓存，见 {@link BeanCopier}
      *
      * @param source 源对象
      * @param target 目标对象
      */
+    @SuppressWarnings("unchecked")
     public static void copyProperties(Object source, Object target, String... ignoreFieldNames) {
         if (source == null || target == null) {
             throw new IllegalArgumentException("源对象或目标对象不能为空");
         }
-        Set<String> ignoreSet = Arrays.stream(ignoreFieldNames).collect(Collectors.toSet());
-        Class<?> sourceClass = source.getClass();
-        Class<?> targetClass = target.getClass();
-
-        //获取源对象的所有字段
-        ClassMetadata<?> classMetadata = ClassCache.get(sourceClass);
-        List<FieldMetadata> sourceFieldMetas = classMetadata.getFields();
-        for (FieldMetadata sourceFieldMeta : sourceFieldMetas) {
-            Field sourceField = sourceFieldMeta.getSourceField();
-            String fieldName = sourceField.getName();
-            if (ignoreSet.contains(fieldName)) {
-                continue;
-            }
-            //获取该字段的get方法和set方法
-            String capitalized = Strs.firstCapitalize(fieldName);
-            String getterName = "get" + capitalized;
-            String setterName = "set" + capitalized;
-
-            try {
-                //判断该字段是否有getter方法
-                MethodMetadata getterMethod = ClassCache.getMethod(sourceClass, getterName);
-                if (getterMethod == null) {
-                    // 如果该字段是 boolean 类型可能是 isXxx
-                    if (sourceField.getType() == boolean.class || sourceField.getType() == Boolean.class) {
-                        getterMethod = ClassCache.getMethod(sourceClass, "is" + capitalized);
-                    }
-                }
-                //如果还是没有，则跳过
-                if (getterMethod == null) {
-                    continue;
-                }
-
-                //走到这，说明该源字段肯定有getter方法
-                Object value = getterMethod.invoke(source);
-                // 不复制 null 值
-                if (value == null) continue;
-
-                //查找目标对象里面的同名字段
-                FieldMetadata targetField = ClassCache.getField(targetClass, fieldName);
-                //目标对象无该字段，略过
-                if (targetField == null) continue;
-
-                //检查类型兼容性，源对象的字段是否能否赋值给目标字段
-                if (!targetField.getSourceField().getType().isAssignableFrom(value.getClass())) {
-                    // 如果不兼容，则尝试使用类型转换器
-                    try {
-                        value = Converts.convert(value, targetField.getType());
-                    } catch (Exception e) {
-                        // 转换失败，则跳过改字段
-                        continue;
-                    }
-                }
-
-                //如果兼容，则调用目标字段的setter方法调用
-                MethodMetadata setterMethod = ClassCache.getMethod(targetClass, setterName, targetField.getSourceField().getType());
-                setterMethod.invoke(target, value);
-            } catch (Exception e) {
-                //TODO 打印日志或记录异常
-                //log.error("属性拷贝出错：{}", e.getMessage());
-            }
-        }
+        BeanCopier<Object, Object> copier = (BeanCopier<Object, Object>) BeanCopier.of(
+                source.getClass(), target.getClass(), CopyOptions.ignoring(ignoreFieldNames));
+        copier.copy(source, target);
     }
 
     /**
@@ -101,23 +33,115 @@ public class Beans {
      * @param source 源对象
      * @param targetClass 目标对象类型
      */
+    @SuppressWarnings("unchecked")
     public static <T> T copyProperties(Object source, Class<T> targetClass, String... ignoreFieldNames) {
         if (source == null || targetClass == null) {
             throw new IllegalArgumentException("源对象或目标类型不能为空");
         }
-        try {
-            // 通过反射创建目标对象实例（要求有无参构造）
-            T target = Reflects.newInstance(targetClass);
-            // 调用已有的方法进行字段复制
-            copyProperties(source, target, ignoreFieldNames);
-            return target;
-        } catch (Exception e) {
-            throw new RuntimeException("无法创建目标对象：" + e.getMessage(), e);
-        }
+        BeanCopier<Object, T> copier = (BeanCopier<Object, T>) BeanCopier.of(
+                source.getClass(), targetClass, CopyOptions.ignoring(ignoreFieldNames));
+        return copier.copy(source);
     }
 
+    /**
+     * 批量转换，在调用线程中顺序执行；需要并行时使用 {@link #transBean(List, Class, TransOptions)} 并传入 {@link TransOptions#PARALLEL}
+     */
     public static <T, R> List<R> transBean(List<T> sourceList, Class<R> targetClass) {
-        return sourceList.stream().map(i -> copyProperties(i, targetClass)).toList();
+        return BatchTrans.trans(sourceList, null, targetClass, TransOptions.DEFAULT);
+    }
+
+    /**
+     * 批量转换：复制计划按元素类型获取一次，结果列表与源列表等长、顺序一致（源元素为 null 时结果也为 null）。
+     * 元素个数达到 {@link TransOptions#parallelThreshold()} 时拆分到 ForkJoinPool 中并行转换（默认选项不并行），
+     * 此时源对象的 getter 在线程池的线程中执行，不能依赖 ThreadLocal 等线程绑定的状态
+     *
+     * @param sourceList  源列表
+     * @param targetClass 目标类型，需要无参构造
+     * @param options     转换选项
+     * @return 不可修改的结果列表
+     */
+    public static <T, R> List<R> transBean(List<T> sourceList, Class<R> targetClass, TransOptions options) {
+        return BatchTrans.trans(sourceList, null, targetClass, options);
+    }
+
+    /**
+     * 批量转换并复用已有的目标对象：recycled 中第 i 个非 null 对象会被第 i 个源对象覆盖写入，不再新建。
+     * 复用的对象上源对象没有的属性、以及按复制选项跳过的 null 值会保留原值
+     *
+     * @param sourceList  源列表
+     * @param recycled    可复用的目标对象，长度不足或元素为 null 的位置会新建目标对象
+     * @param targetClass 目标类型
+     * @param options     转换选项
+     * @return 不可修改的结果列表
+     */
+    public static <T, R> List<R> transBean(List<T> sourceList, List<R> recycled, Class<R> targetClass, TransOptions options) {
+        return BatchTrans.trans(sourceList, recycled, targetClass, options);
+    }
+
+    /**
+     * 深拷贝对象：不可变对象（String、包装类型、java.time、枚举、成员均不可变的 record 等）直接共享，
+     * 数组、集合、Map、record 和普通 Bean 递归复制，共享引用和循环引用在副本中保持原有结构。
+     * 普通 Bean 需要无参构造；List.of 等不可修改的容器会被复制为对应的标准可变实现
+     *
+     * @param source 源对象
+     * @return 副本，source 为 null 时返回 null
+     */
+    public static <T> T deepCopy(T source) {
+        return DeepCopier.deepCopy(source);
+    }
+
+    /**
+     * 按属性对比同一类型的两个对象，返回发生变化的属性。
+     * 基本类型属性不装箱比较，其余属性用 equals 比较；声明类型为项目内普通 Bean 的属性会递归对比，
+     * 路径形如 address.city。两个对象为同一引用时直接返回空列表
+     *
+     * @param oldBean 旧对象
+     * @param newBean 新对象
+     * @return 不可修改的变化列表，按属性顺序排列
+     */
+    public static <T> List<PropertyChange> diff(T oldBean, T newBean) {
+        return BeanDiffer.diff(oldBean, newBean);
+    }
+
+    /**
+     * 按映射计划把 source 映射为 targetClass 对象：支持 {@link xyz.ytora.ytool.anno.MapFrom} 指定的嵌套取值路径、
+     * 嵌套 Bean 和 List/Set 元素的递归映射，见 {@link BeanMapper}
+     *
+     * @param source      源对象
+     * @param targetClass 目标类型，需要无参构造
+     * @return source 为 null 时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T map(Object source, Class<T> targetClass) {
+        if (source == null) {
+            return null;
+        }
+        return BeanMapper.of((Class<Object>) source.getClass(), targetClass).map(source);
+    }
+
+    /**
+     * 批量映射，相邻元素类型相同时复用同一个映射计划，结果列表与源列表等长、顺序一致
+     *
+     * @param sourceList  源列表
+     * @param targetClass 目标类型，需要无参构造
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> mapAll(List<?> sourceList, Class<T> targetClass) {
+        List<T> result = new ArrayList<>(sourceList.size());
+        Class<?> lastClass = null;
+        BeanMapper<Object, T> mapper = null;
+        for (Object source : sourceList) {
+            if (source == null) {
+                result.add(null);
+                continue;
+            }
+            if (source.getClass() != lastClass) {
+                lastClass = source.getClass();
+                mapper = BeanMapper.of((Class<Object>) lastClass, targetClass);
+            }
+            result.add(mapper.map(source));
+        }
+        return result;
     }
 
     /**
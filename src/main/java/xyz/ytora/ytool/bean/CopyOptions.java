@@ -0,0 +1,72 @@
+package xyz.ytora.ytool.bean;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * created by yangtong on 2026/10/18 16:40:12
+ * <br/>
+ * 属性复制选项，作为 {@link BeanCopier} 缓存键的一部分，因此是不可变的值对象
+ *
+ * @param ignoreProperties 不复制的属性名
+ * @param ignoreNull       源属性值为 null 时是否跳过（不覆盖目标属性）
+ * @param failFast         某个属性读取、转换或写入失败时是否直接抛出异常，为 false 时跳过该属性继续复制
+ */
+public record CopyOptions(Set<String> ignoreProperties, boolean ignoreNull, boolean failFast) {
+
+    /**
+     * 默认选项：复制全部同名属性，跳过 null 值，跳过复制失败的属性
+     */
+    public static final CopyOptions DEFAULT = new CopyOptions(Set.of(), true, false);
+
+    public CopyOptions {
+        ignoreProperties = ignoreProperties == null ? Set.of() : Set.copyOf(ignoreProperties);
+    }
+
+    public CopyOptions(Set<String> ignoreProperties, boolean ignoreNull) {
+        this(ignoreProperties, ignoreNull, false);
+    }
+
+    /**
+     * 忽略指定属性，其余使用默认选项
+     */
+    public static CopyOptions ignoring(String... ignoreProperties) {
+        if (ignoreProperties == null || ignoreProperties.length == 0) {
+            return DEFAULT;
+        }
+        return new CopyOptions(Set.copyOf(Arrays.asList(ignoreProperties)), true, false);
+    }
+
+    public boolean isIgnored(String property) {
+        return ignoreProperties.contains(property);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Set<String> ignoreProperties = Set.of();
+        private boolean ignoreNull = true;
+        private boolean failFast;
+
+        public Builder ignore(String... ignoreProperties) {
+            this.ignoreProperties = Set.copyOf(Arrays.asList(ignoreProperties));
+            return this;
+        }
+
+        public Builder ignoreNull(boolean ignoreNull) {
+            this.ignoreNull = ignoreNull;
+            return this;
+        }
+
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        public CopyOptions build() {
+            return new CopyOptions(ignoreProperties, ignoreNull, failFast);
+        }
+    }
+}
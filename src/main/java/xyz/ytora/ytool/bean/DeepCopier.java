@@ -0,0 +1,542 @@
+package xyz.ytora.ytool.bean;
+
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
+import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * created by yangtong on 2026/10/18 17:40:06
+ * <br/>
+ * 深拷贝引擎，见 {@link Beans#deepCopy(Object)}。
+ * 每个运行期类型编译一次复制计划（挂在 {@link ClassValue} 上）：
+ * - 不可变类型（String、包装类型、java.time、枚举、成员均不可变的 record 等）直接共享；
+ * - 数组整体 clone，元素为可变类型时再逐个替换为副本；
+ * - 集合/Map 先批量导出为数组，元素复制后再批量放入同类型的新容器，比较器沿用原容器的，项目内容器子类自己的字段一并复制；
+ * - 普通 Bean 用无参构造创建，基本类型和不可变类型的字段用合并后的句柄直接搬运，其余字段递归复制。
+ * 同一次拷贝中按对象身份记录已复制的对象，因此共享引用和循环引用在副本中保持原有结构
+ */
+final class DeepCopier {
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * 可共享的 JDK 不可变类型
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigDecimal.class, BigInteger.class, Class.class, UUID.class, Locale.class,
+            URI.class, URL.class, Pattern.class, Object.class, Currency.class);
+
+    /**
+     * record 正在构造中的占位：record 只能在成员复制完成后创建，期间再次遇到它说明存在无法还原的循环
+     */
+    private static final Object IN_PROGRESS = new Object();
+
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * 原对象 -> 副本
+     */
+    private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+
+    private DeepCopier() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T deepCopy(T source) {
+        if (source == null) {
+            return null;
+        }
+        return (T) new DeepCopier().copy(source);
+    }
+
+    /**
+     * 复制任意对象，已复制过的对象直接返回其副本
+     */
+    Object copy(Object source) {
+        if (source == null) {
+            return null;
+        }
+        Plan plan = PLANS.get(source.getClass());
+        if (plan == SHARE) {
+            return source;
+        }
+        Object done = copies.get(source);
+        if (done != null) {
+            if (done == IN_PROGRESS) {
+                throw new IllegalStateException("record【" + source.getClass().getName() + "】存在循环引用，无法深拷贝");
+            }
+            return done;
+        }
+        return plan.copy(source, this);
+    }
+
+    /**
+     * 登记副本，必须在复制成员之前调用，这样成员中的回指会拿到同一个副本
+     */
+    void register(Object source, Object copy) {
+        copies.put(source, copy);
+    }
+
+    /* ============================ 计划 ============================ */
+
+    @FunctionalInterface
+    private interface Plan {
+        Object copy(Object source, DeepCopier ctx);
+    }
+
+    private static final Plan SHARE = (source, ctx) -> source;
+
+    private static Plan compile(Class<?> type) {
+        if (isImmutable(type, new HashSet<>()) || type.isHidden() || type.isSynthetic()) {
+            return SHARE;
+        }
+        if (type.isArray()) {
+            return arrayPlan(type);
+        }
+        if (type.isRecord()) {
+            return new RecordPlan(type);
+        }
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return (source, ctx) -> register(ctx, source, ((EnumSet<?>) source).clone());
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return collectionPlan(type);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return mapPlan(type);
+        }
+        if (Date.class.isAssignableFrom(type)) {
+            return (source, ctx) -> register(ctx, source, ((Date) source).clone());
+        }
+        if (ClassCache.isPlatform(type)) {
+            return (source, ctx) -> {
+                throw new IllegalArgumentException("不支持深拷贝平台类型【" + type.getName() + "】");
+            };
+        }
+        return new BeanPlan(type);
+    }
+
+    private static Object register(DeepCopier ctx, Object source, Object copy) {
+        ctx.register(source, copy);
+        return copy;
+    }
+
+    /**
+     * 类型的所有实例是否都不可变；visiting 用于处理自引用的 record
+     */
+    private static boolean isImmutable(Class<?> type, Set<Class<?>> visiting) {
+        if (type.isPrimitive() || IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)) {
+            return true;
+        }
+        String name = type.getName();
+        if (name.startsWith("java.time.") || Path.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (type.isRecord()) {
+            if (!visiting.add(type)) {
+                return true;
+            }
+            for (RecordComponent component : type.getRecordComponents()) {
+                Class<?> ct = component.getType();
+                // 成员的声明类型可被继承时，运行期可能是可变的子类
+                if (!ct.isPrimitive() && !Modifier.isFinal(ct.getModifiers()) && !ct.isEnum()) {
+                    return false;
+                }
+                if (!isImmutable(ct, visiting)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 字段的声明类型能否保证值不可变（可直接搬运引用，不必查计划）
+     */
+    private static boolean isImmutableDeclared(Class<?> type) {
+        return type.isPrimitive() || ((Modifier.isFinal(type.getModifiers()) || type.isEnum())
+                && isImmutable(type, new HashSet<>()));
+    }
+
+    /* ============================ 数组 ============================ */
+
+    private static Plan arrayPlan(Class<?> type) {
+        Class<?> component = type.getComponentType();
+        if (component.isPrimitive()) {
+            return (source, ctx) -> register(ctx, source, clonePrimitiveArray(source));
+        }
+        boolean shareElements = isImmutableDeclared(component);
+        return (source, ctx) -> {
+            Object[] copy = ((Object[]) source).clone();
+            ctx.register(source, copy);
+            if (!shareElements) {
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] = ctx.copy(copy[i]);
+                }
+            }
+            return copy;
+        };
+    }
+
+    private static Object clonePrimitiveArray(Object array) {
+        if (array instanceof int[] a) return a.clone();
+        if (array instanceof long[] a) return a.clone();
+        if (array instanceof double[] a) return a.clone();
+        if (array instanceof byte[] a) return a.clone();
+        if (array instanceof char[] a) return a.clone();
+        if (array instanceof boolean[] a) return a.clone();
+        if (array instanceof float[] a) return a.clone();
+        return ((short[]) array).clone();
+    }
+
+    /* ============================ 集合 ============================ */
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Plan collectionPlan(Class<?> type) {
+        Function<Object, Collection> factory = containerFactory(type, Collection.class);
+        FieldCopier extra = extraFields(type);
+        return (source, ctx) -> {
+            Collection<Object> src = (Collection<Object>) source;
+            Collection<Object> copy = factory == null ? fallbackCollection(src) : factory.apply(src);
+            ctx.register(source, copy);
+            if (extra != null) {
+                extra.copy(source, copy, ctx);
+            }
+            Object[] elements = src.toArray();
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = ctx.copy(elements[i]);
+            }
+            copy.addAll(Arrays.asList(elements));
+            return copy;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Plan mapPlan(Class<?> type) {
+        if (EnumMap.class.isAssignableFrom(type) && ClassCache.isPlatform(type)) {
+            return (source, ctx) -> {
+                EnumMap copy = new EnumMap((EnumMap) source);
+                ctx.register(source, copy);
+                copy.replaceAll((k, v) -> ctx.copy(v));
+                return copy;
+            };
+        }
+        Function<Object, Map> factory = containerFactory(type, Map.class);
+        FieldCopier extra = extraFields(type);
+        return (source, ctx) -> {
+            Map<Object, Object> src = (Map<Object, Object>) source;
+            Map<Object, Object> copy = factory == null ? fallbackMap(src) : factory.apply(src);
+            ctx.register(source, copy);
+            if (extra != null) {
+                extra.copy(source, copy, ctx);
+            }
+            for (Map.Entry<Object, Object> e : src.entrySet()) {
+                copy.put(ctx.copy(e.getKey()), ctx.copy(e.getValue()));
+            }
+            return copy;
+        };
+    }
+
+    /**
+     * 按源容器创建同类型的空容器：
+     * - 带比较器的容器（TreeSet、PriorityQueue、PriorityBlockingQueue、ConcurrentSkipListMap 等）优先用
+     * (Comparator) 或 (int, Comparator) 构造，沿用源容器的比较器；
+     * - 其余平台容器用公开无参构造；
+     * - 项目内的容器子类用其无参构造（可以不公开），没有时复制会失败，而不是退化为标准实现丢掉子类的状态。
+     * 平台容器无法创建同类型实例时返回 null，按接口选用标准实现
+     */
+    private static <C> Function<Object, C> containerFactory(Class<?> type, Class<C> base) {
+        if (type == ArrayList.class) {
+            return src -> base.cast(new ArrayList<>(size(src)));
+        }
+        if (type == HashMap.class) {
+            return src -> base.cast(new HashMap<>(BeanTypes.capacity(size(src))));
+        }
+        if (type == LinkedHashMap.class) {
+            return src -> base.cast(new LinkedHashMap<>(BeanTypes.capacity(size(src))));
+        }
+        if (type == HashSet.class) {
+            return src -> base.cast(new HashSet<>(BeanTypes.capacity(size(src))));
+        }
+        if (type == LinkedHashSet.class) {
+            return src -> base.cast(new LinkedHashSet<>(BeanTypes.capacity(size(src))));
+        }
+        boolean platform = ClassCache.isPlatform(type);
+        if (platform && !Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = platform ? MethodHandles.publicLookup() : MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("无法访问容器【" + type.getName() + "】：" + e.getMessage(), e);
+        }
+        if (hasComparator(type)) {
+            MethodHandle ctor = findConstructor(lookup, type, Comparator.class);
+            if (ctor != null) {
+                return src -> base.cast(create(type, ctor, comparatorOf(src)));
+            }
+            MethodHandle sized = findConstructor(lookup, type, int.class, Comparator.class);
+            if (sized != null) {
+                return src -> base.cast(create(type, sized, Math.max(size(src), 1), comparatorOf(src)));
+            }
+        }
+        MethodHandle ctor = findConstructor(lookup, type);
+        if (ctor != null) {
+            return src -> base.cast(create(type, ctor));
+        }
+        if (platform) {
+            return null;
+        }
+        return src -> {
+            throw new IllegalArgumentException("容器类型【" + type.getName() + "】没有无参构造器，无法深拷贝");
+        };
+    }
+
+    private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> type, Class<?>... paramTypes) {
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class, paramTypes))
+                    .asSpreader(Object[].class, paramTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Object create(Class<?> type, MethodHandle ctor, Object... args) {
+        try {
+            return (Object) ctor.invokeExact(args);
+        } catch (Throwable t) {
+            throw new IllegalStateException("无法创建容器【" + type.getName() + "】：" + t.getMessage(), t);
+        }
+    }
+
+    private static int size(Object container) {
+        return container instanceof Map<?, ?> map ? map.size() : ((Collection<?>) container).size();
+    }
+
+    private static boolean hasComparator(Class<?> type) {
+        return SortedSet.class.isAssignableFrom(type) || SortedMap.class.isAssignableFrom(type)
+                || PriorityQueue.class.isAssignableFrom(type) || PriorityBlockingQueue.class.isAssignableFrom(type);
+    }
+
+    private static Comparator<?> comparatorOf(Object container) {
+        if (container instanceof SortedSet<?> sorted) return sorted.comparator();
+        if (container instanceof SortedMap<?, ?> sorted) return sorted.comparator();
+        if (container instanceof PriorityQueue<?> queue) return queue.comparator();
+        if (container instanceof PriorityBlockingQueue<?> queue) return queue.comparator();
+        return null;
+    }
+
+    /**
+     * 项目内容器子类自己声明的实例字段（平台父类中的字段由容器的构造和元素复制负责），没有时返回 null
+     */
+    private static FieldCopier extraFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> t = type; !ClassCache.isPlatform(t); t = t.getSuperclass()) {
+            for (Field field : t.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields.isEmpty() ? null : new FieldCopier(type, fields);
+    }
+
+    /**
+     * 不可直接实例化的容器（List.of、Collections.unmodifiableXxx、Arrays.asList 等）复制为对应的标准可变实现
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> fallbackCollection(Collection<Object> src) {
+        if (src instanceof SortedSet<?> sorted) {
+            return new TreeSet<>((Comparator<Object>) sorted.comparator());
+        }
+        if (src instanceof Set) {
+            return new LinkedHashSet<>(BeanTypes.capacity(src.size()));
+        }
+        if (src instanceof PriorityQueue<?> queue) {
+            return new PriorityQueue<>(Math.max(src.size(), 1), (Comparator<Object>) queue.comparator());
+        }
+        if (src instanceof PriorityBlockingQueue<?> queue) {
+            return new PriorityBlockingQueue<>(Math.max(src.size(), 1), (Comparator<Object>) queue.comparator());
+        }
+        if (src instanceof Deque || (src instanceof Queue && !(src instanceof List))) {
+            return new ArrayDeque<>(Math.max(src.size(), 1));
+        }
+        return new ArrayList<>(src.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> fallbackMap(Map<Object, Object> src) {
+        if (src instanceof SortedMap<?, ?> sorted) {
+            return new TreeMap<>((Comparator<Object>) sorted.comparator());
+        }
+        return new LinkedHashMap<>(BeanTypes.capacity(src.size()));
+    }
+
+    /* ============================ record ============================ */
+
+    private static final class RecordPlan implements Plan {
+        private final MethodHandle[] accessors;
+        private final MethodHandle constructor;
+
+        RecordPlan(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            accessors = new MethodHandle[components.length];
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                for (int i = 0; i < components.length; i++) {
+                    Method accessor = components[i].getAccessor();
+                    types[i] = components[i].getType();
+                    accessors[i] = lookup.unreflect(accessor).asType(GET_TYPE);
+                }
+                constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+                        .asSpreader(Object[].class, types.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("无法访问 record【" + type.getName() + "】：" + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public Object copy(Object source, DeepCopier ctx) {
+            ctx.register(source, IN_PROGRESS);
+            try {
+                Object[] args = new Object[accessors.length];
+                for (int i = 0; i < accessors.length; i++) {
+                    args[i] = ctx.copy((Object) accessors[i].invokeExact(source));
+                }
+                Object copy = (Object) constructor.invokeExact(args);
+                ctx.register(source, copy);
+                return copy;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("复制 record【" + source.getClass().getName() + "】失败：" + t.getMessage(), t);
+            }
+        }
+    }
+
+    /* ============================ Bean ============================ */
+
+    private static final class BeanPlan implements Plan {
+        private final Class<?> type;
+        private final ConstructorMetadata<?> constructor;
+        private final FieldCopier fields;
+
+        BeanPlan(Class<?> type) {
+            this.type = type;
+            ClassMetadata<?> metadata = ClassCache.get(type);
+            this.constructor = metadata.findConstructor();
+            List<Field> fields = new ArrayList<>();
+            for (FieldMetadata fm : metadata.getFields(f -> !f.isStatic())) {
+                fields.add(fm.getSourceField());
+            }
+            this.fields = new FieldCopier(type, fields);
+        }
+
+        @Override
+        public Object copy(Object source, DeepCopier ctx) {
+            if (constructor == null) {
+                throw new IllegalArgumentException("类型【" + type.getName() + "】没有无参构造器，无法深拷贝");
+            }
+            Object copy;
+            try {
+                copy = constructor.instance();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("复制【" + type.getName() + "】失败：" + t.getMessage(), t);
+            }
+            ctx.register(source, copy);
+            fields.copy(source, copy, ctx);
+            return copy;
+        }
+    }
+
+    /**
+     * 逐个字段复制：基本类型和不可变类型的字段直接搬运，其余字段递归复制
+     */
+    private static final class FieldCopier {
+        private final Class<?> type;
+        /**
+         * 基本类型、不可变类型字段：(target, source) -> void，直接搬运，基本类型不装箱
+         */
+        private final MethodHandle[] direct;
+        /**
+         * 可变类型字段：读取后递归复制再写入
+         */
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+
+        FieldCopier(Class<?> type, List<Field> fields) {
+            this.type = type;
+            List<MethodHandle> direct = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            List<MethodHandle> setters = new ArrayList<>();
+            try {
+                for (Field field : fields) {
+                    // final 字段只有 setAccessible 后才能 unreflectSetter；ClassMetadata 中的字段已经设置过
+                    field.trySetAccessible();
+                    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                    MethodHandle getter = lookup.unreflectGetter(field);
+                    MethodHandle setter = lookup.unreflectSetter(field);
+                    if (isImmutableDeclared(field.getType())) {
+                        direct.add(MethodHandles.filterArguments(setter, 1, getter).asType(COPY_TYPE));
+                    } else {
+                        getters.add(getter.asType(GET_TYPE));
+                        setters.add(setter.asType(COPY_TYPE));
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("无法访问【" + type.getName() + "】的字段：" + e.getMessage(), e);
+            }
+            this.direct = direct.toArray(new MethodHandle[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+            this.setters = setters.toArray(new MethodHandle[0]);
+        }
+
+        void copy(Object source, Object copy, DeepCopier ctx) {
+            try {
+                for (MethodHandle mh : direct) {
+                    mh.invokeExact(copy, source);
+                }
+                for (int i = 0; i < getters.length; i++) {
+                    Object value = (Object) getters[i].invokeExact(source);
+                    setters[i].invokeExact(copy, ctx.copy(value));
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("复制【" + type.getName() + "】失败：" + t.getMessage(), t);
+            }
+        }
+    }
+}
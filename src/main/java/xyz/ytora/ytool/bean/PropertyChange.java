@@ -0,0 +1,19 @@
+package xyz.ytora.ytool.bean;
+
+/**
+ * created by yangtong on 2026/10/18 18:10:24
+ * <br/>
+ * 一处属性变化，见 {@link Beans#diff(Object, Object)}
+ *
+ * @param path     属性路径，嵌套属性用 . 连接，例如 address.city
+ * @param index    属性在其所属类属性表（{@link xyz.ytora.ytool.classcache.classmeta.ClassMetadata#getProperties()}）中的下标
+ * @param oldValue 旧值
+ * @param newValue 新值
+ */
+public record PropertyChange(String path, int index, Object oldValue, Object newValue) {
+
+    @Override
+    public String toString() {
+        return path + ": " + oldValue + " -> " + newValue;
+    }
+}
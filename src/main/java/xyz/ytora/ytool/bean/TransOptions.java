@@ -0,0 +1,106 @@
+package xyz.ytora.ytool.bean;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * created by yangtong on 2026/10/18 17:05:48
+ * <br/>
+ * 批量转换选项，见 {@link Beans#transBean(java.util.List, Class, TransOptions)}
+ *
+ * @param copyOptions       单个对象的复制选项
+ * @param parallelThreshold 元素个数达到该值时才并行转换，为 Integer.MAX_VALUE 时始终顺序转换
+ * @param parallelism       并行度；为 0 时使用 pool（未指定则为公共池）的并行度
+ * @param pool              执行并行转换的线程池，为 null 时使用公共池，或按 parallelism 临时创建
+ */
+public record TransOptions(CopyOptions copyOptions, int parallelThreshold, int parallelism, ForkJoinPool pool) {
+
+    /**
+     * 开启并行时默认的并行阈值
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /**
+     * 默认选项：默认复制选项，始终在调用线程中顺序转换。
+     * 源对象的 getter 可能依赖线程绑定的状态（ORM 懒加载会话、ThreadLocal 中的租户/安全上下文、MDC 等），
+     * 因此并行转换需要显式开启，见 {@link Builder#parallel()}
+     */
+    public static final TransOptions DEFAULT = new TransOptions(CopyOptions.DEFAULT, Integer.MAX_VALUE, 0, null);
+
+    /**
+     * 一万个元素以上在公共池中并行
+     */
+    public static final TransOptions PARALLEL = new TransOptions(CopyOptions.DEFAULT, DEFAULT_PARALLEL_THRESHOLD, 0, null);
+
+    public TransOptions {
+        if (copyOptions == null) {
+            copyOptions = CopyOptions.DEFAULT;
+        }
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("并行阈值必须大于 0");
+        }
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("并行度不能为负数");
+        }
+    }
+
+    /**
+     * 实际使用的并行度
+     */
+    public int effectiveParallelism() {
+        if (parallelism > 0) {
+            return parallelism;
+        }
+        return (pool == null ? ForkJoinPool.commonPool() : pool).getParallelism();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private CopyOptions copyOptions = CopyOptions.DEFAULT;
+        private int parallelThreshold = DEFAULT.parallelThreshold;
+        private int parallelism;
+        private ForkJoinPool pool;
+
+        public Builder copyOptions(CopyOptions copyOptions) {
+            this.copyOptions = copyOptions;
+            return this;
+        }
+
+        public Builder parallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * 始终顺序转换（默认）
+         */
+        public Builder sequential() {
+            this.parallelThreshold = Integer.MAX_VALUE;
+            return this;
+        }
+
+        /**
+         * 元素个数达到 {@link #DEFAULT_PARALLEL_THRESHOLD} 时并行转换，阈值可再用 {@link #parallelThreshold(int)} 调整
+         */
+        public Builder parallel() {
+            this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        public TransOptions build() {
+            return new TransOptions(copyOptions, parallelThreshold, parallelism, pool);
+        }
+    }
+}
@@ -6,126 +6,252 @@ import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
 import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
 
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.WeakHashMap;
 
 /**
  * 类元信息缓存
+ * <p>
+ * 元信息挂在 {@link ClassValue} 上，以 Class 对象本身为键：不同类加载器加载的同名类互不干扰，
+ * 类被卸载时其元信息随之释放
+ * </p>
  */
 public class ClassCache {
 
-    private static final Map<String, ClassMetadata<?>> cache = new ConcurrentHashMap<>();
-    private static final Map<Method, MethodMetadata> methodCache = new ConcurrentHashMap<>();
+    private static final ClassValue<Holder<?>> cache = new ClassValue<>() {
+        @Override
+        protected Holder<?> computeValue(Class<?> type) {
+            return new Holder<>(type);
+        }
+    };
+
+    /**
+     * 已构建过元信息的类，仅用于 {@link #getSourceCache()}，弱引用不阻止类卸载
+     */
+    private static final Map<Class<?>, Boolean> registry = Collections.synchronizedMap(new WeakHashMap<>());
 
     /**
-     * 获取原始缓存
+     * 类元信息索引，未启用时为 null
+     */
+    private static volatile ClassMetadataIndex index;
+
+    /**
+     * 获取当前缓存内容的只读快照，key 为全类名（不同类加载器中的同名类只保留其一）
      */
     public static Map<String, ClassMetadata<?>> getSourceCache() {
-        return cache;
+        List<Class<?>> types;
+        synchronized (registry) {
+            types = new ArrayList<>(registry.keySet());
+        }
+        Map<String, ClassMetadata<?>> snapshot = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            snapshot.put(type.getName(), cache.get(type).metadata());
+        }
+        return Collections.unmodifiableMap(snapshot);
     }
 
     /**
-     * 添加缓存
+     * 启用类元信息索引文件（见 {@link ClassMetadataIndex}），之后首次构建的类元信息按索引排列成员；
+     * 文件不存在时忽略，返回是否启用成功
      */
+    public static boolean useIndex(Path file) {
+        if (file == null || !Files.isRegularFile(file)) {
+            index = null;
+            return false;
+        }
+        index = ClassMetadataIndex.read(file);
+        return true;
+    }
+
+    /**
+     * 将当前已缓存的类写入索引文件，供下次启动时 {@link #useIndex(Path)} 使用，返回写入的类数量
+     */
+    public static int saveIndex(Path file) {
+        List<Class<?>> types;
+        synchronized (registry) {
+            types = new ArrayList<>(registry.keySet());
+        }
+        return ClassMetadataIndex.write(file, types);
+    }
+
+    /**
+     * 获取类在索引中的有效记录，未启用索引、类不在索引中或 class 文件已变化时返回 null
+     */
+    public static ClassMetadataIndex.Entry indexEntry(Class<?> type) {
+        ClassMetadataIndex idx = index;
+        return idx == null ? null : idx.entry(type);
+    }
+
+    /**
+     * 添加缓存，已存在时重新构建
+     */
+    @SuppressWarnings("unchecked")
     public static <T> ClassMetadata<T> put(Class<T> type) {
         if (type == null) {
             throw new ClassCacheException("添加类元缓存时 CLASS 不能为空");
         }
-        ClassMetadata<T> classMetadata = new ClassMetadata<>(type);
-        cache.put(type.getName(), classMetadata);
-
-        return classMetadata;
+        cache.remove(type);
+        return (ClassMetadata<T>) cache.get(type).metadata();
     }
 
     /**
      * 获取类
      */
-    @SuppressWarnings("unchecked")
     public static <T> ClassMetadata<T> get(Class<T> type) {
         if (type == null) {
             throw new ClassCacheException("获取类元缓存时 CLASS 不能为空");
         }
+        if (isPlatform(type)) {
+            throw new ClassCacheException("不能缓存平台类型: " + type.getName());
+        }
+        return lookup(type);
+    }
+
+    /**
+     * 是否为平台类型（启动类加载器加载的类，或 java.、javax.、jdk.、sun.、com.sun. 包下的类），这些类型不能缓存元信息
+     */
+    public static boolean isPlatform(Class<?> type) {
         String className = type.getName();
-        if (type.getClassLoader() == null
+        return type.getClassLoader() == null
                 || className.startsWith("java.")
                 || className.startsWith("javax.")
                 || className.startsWith("jdk.")
                 || className.startsWith("sun.")
-                || className.startsWith("com.sun.")) {
-            throw new ClassCacheException("不能缓存平台类型: " + className);
-        }
-
-        ClassMetadata<T> classMetadata = (ClassMetadata<T>) cache.get(className);
-        if (classMetadata == null) {
-            classMetadata = put(type);
-        }
-        return classMetadata;
+                || className.startsWith("com.sun.");
     }
 
     /**
      * 获取字段
      */
-    @SuppressWarnings("unchecked")
     public static <T> FieldMetadata getField(Class<T> type, String fieldName) {
         if (type == null) {
             throw new ClassCacheException("获取字段时 CLASS 不能为空");
         }
-        String className = type.getName();
-        ClassMetadata<T> classMetadata = (ClassMetadata<T>) cache.get(className);
-        if (classMetadata == null) {
-            classMetadata = put(type);
-        }
-        return classMetadata.getField(fieldName);
+        return lookup(type).getField(fieldName);
     }
 
     /**
      * 获取构造器
      */
-    @SuppressWarnings("unchecked")
     public static <T> ConstructorMetadata<T> getConstructor(Class<T> type, Class<?>... paramTypes) {
         if (type == null) {
             throw new ClassCacheException("获取构造器时 CLASS 不能为空");
         }
-        String className = type.getName();
-        ClassMetadata<T> classMetadata = (ClassMetadata<T>) cache.get(className);
-        if (classMetadata == null) {
-            classMetadata = put(type);
-        }
-        return classMetadata.getConstructor(paramTypes);
+        return lookup(type).getConstructor(paramTypes);
     }
 
     /**
      * 获取方法
      */
-    @SuppressWarnings("unchecked")
     public static <T> MethodMetadata getMethod(Class<T> type, String methodName, Class<?>... paramTypes) {
         if (type == null || methodName == null) {
             throw new ClassCacheException("获取方法时 CLASS 或 methodName 不能为空");
         }
-        String className = type.getName();
-        ClassMetadata<T> classMetadata = (ClassMetadata<T>) cache.get(className);
-        if (classMetadata == null) {
-            classMetadata = put(type);
+        return lookup(type).getMethod(methodName, paramTypes);
+    }
+
+    /**
+     * 查找字段，不存在时返回 null
+     */
+    public static <T> FieldMetadata findField(Class<T> type, String fieldName) {
+        if (type == null) {
+            throw new ClassCacheException("获取字段时 CLASS 不能为空");
+        }
+        return lookup(type).findField(fieldName);
+    }
+
+    /**
+     * 查找构造器，不存在时返回 null
+     */
+    public static <T> ConstructorMetadata<T> findConstructor(Class<T> type, Class<?>... paramTypes) {
+        if (type == null) {
+            throw new ClassCacheException("获取构造器时 CLASS 不能为空");
+        }
+        return lookup(type).findConstructor(paramTypes);
+    }
+
+    /**
+     * 查找方法，不存在时返回 null
+     */
+    public static <T> MethodMetadata findMethod(Class<T> type, String methodName, Class<?>... paramTypes) {
+        if (type == null || methodName == null) {
+            throw new ClassCacheException("获取方法时 CLASS 或 methodName 不能为空");
+        }
+        return lookup(type).findMethod(methodName, paramTypes);
+    }
+
+    /**
+     * 一次性构建指定类的元信息，并创建全部字段、方法、构造器句柄和属性访问器，
+     * 避免服务启动后并发的首次访问各自创建句柄。多个类时在 ForkJoin 公共池中并行预热。
+     * 预热不会抛出异常：null 和平台类型直接跳过，某个类或个别成员无法预热时跳过，首次使用时再报错
+     */
+    public static void prewarm(Class<?>... types) {
+        if (types == null || types.length == 0) {
+            return;
+        }
+        if (types.length == 1) {
+            prewarmOne(types[0]);
+            return;
+        }
+        Arrays.stream(types).parallel().forEach(ClassCache::prewarmOne);
+    }
+
+    private static void prewarmOne(Class<?> type) {
+        if (type == null || isPlatform(type)) {
+            return;
+        }
+        try {
+            get(type).prepare();
+        } catch (RuntimeException | LinkageError e) {
+            // 预热失败不影响启动，首次使用时再报错
         }
-        return classMetadata.getMethod(methodName, paramTypes);
     }
 
     /**
      * 根据 Method 获取 MethodMetadata
      */
     public static <T> MethodMetadata getMethod(Method method) {
-        MethodMetadata methodMetadata = methodCache.get(method);
-        if (methodMetadata != null) {
-            return methodMetadata;
-        }
-        ClassMetadata<?> cmd = get(method.getDeclaringClass());
-        for (MethodMetadata mmd : cmd.getMethods()) {
-            if (mmd.getOriginMethod().equals(method)) {
-                methodCache.put(method, mmd);
-                return mmd;
+        return get(method.getDeclaringClass()).getMethod(method);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ClassMetadata<T> lookup(Class<T> type) {
+        return (ClassMetadata<T>) cache.get(type).metadata();
+    }
+
+    /**
+     * ClassValue 在并发首次访问时可能创建多个 Holder，但只有一个会被保留；
+     * 元信息在 Holder 内加锁构建，保证每个类只构建一次
+     */
+    private static final class Holder<T> {
+        private final Class<T> type;
+        private volatile ClassMetadata<T> metadata;
+
+        Holder(Class<T> type) {
+            this.type = type;
+        }
+
+        ClassMetadata<T> metadata() {
+            ClassMetadata<T> m = metadata;
+            if (m == null) {
+                synchronized (this) {
+                    m = metadata;
+                    if (m == null) {
+                        m = new ClassMetadata<>(type);
+                        metadata = m;
+                        registry.put(type, Boolean.TRUE);
+                    }
+                }
             }
+            return m;
         }
-        return null;
     }
 
 }
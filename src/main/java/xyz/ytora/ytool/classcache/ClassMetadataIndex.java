@@ -0,0 +1,390 @@
+package xyz.ytora.ytool.classcache;
+
+import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
+import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * created by yangtong on 2026/10/18 17:05:31
+ * <br/>
+ * 类元信息索引文件：预先记录每个类按 @Index 排好序的字段、方法，以及字段与 getter/setter 的对应关系，
+ * 冷启动时 ClassMetadata 据此直接排列反射得到的成员，省去读取注解、逐个查找字段和排序的开销。
+ * <p>
+ * 每个类记录其自身及所有父类 class 文件字节的 CRC32，类被重新编译后索引自动失效，回退到反射扫描
+ * </p>
+ * <pre>
+ * // 构建期生成
+ * java -cp ... xyz.ytora.ytool.classcache.ClassMetadataIndex target/classes/META-INF/ytool.idx com.example.dto
+ * // 启动时加载
+ * ClassCache.useIndex(Path.of("ytool.idx"));
+ * </pre>
+ */
+public final class ClassMetadataIndex {
+
+    private static final int MAGIC = 0x59544349; // "YTCI"
+    private static final int VERSION = 2;
+
+    /**
+     * 每个类的继承链 CRC 只计算一次：类自身 class 文件的 CRC 与父类的继承链 CRC 组合，
+     * 公共父类的 class 文件不会被每个子类重复读取；读取不到 class 文件时为 -1
+     */
+    private static final ClassValue<Long> HIERARCHY_CRC = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return computeHierarchyCrc(type);
+        }
+    };
+
+    private final Map<String, Entry> entries;
+
+    private ClassMetadataIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * 构建期/首次运行生成索引：java ClassMetadataIndex &lt;输出文件&gt; &lt;包名&gt;...
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("用法: ClassMetadataIndex <输出文件> <包名>...");
+            System.exit(1);
+        }
+        List<Class<?>> types = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            types.addAll(ClassScanner.scan(args[i]));
+        }
+        int count = write(Path.of(args[0]), types);
+        System.out.println("已写入 " + count + " 个类的元信息索引: " + args[0]);
+    }
+
+    /**
+     * 为给定类（及其父类）生成索引文件，返回写入的类数量
+     */
+    public static int write(Path file, Collection<Class<?>> types) {
+        // 父类的成员顺序同样需要，一并写入
+        Map<String, Class<?>> all = new LinkedHashMap<>();
+        for (Class<?> type : types) {
+            for (Class<?> t = type; isIndexable(t); t = t.getSuperclass()) {
+                all.putIfAbsent(t.getName(), t);
+            }
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        int count = 0;
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            List<Entry> built = new ArrayList<>(all.size());
+            for (Class<?> type : all.values()) {
+                Entry entry = build(type);
+                if (entry != null) {
+                    built.add(entry);
+                }
+            }
+            out.writeInt(built.size());
+            for (Entry entry : built) {
+                entry.writeTo(out);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new ClassCacheException("写入类元信息索引失败", e);
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, bytes.toByteArray());
+        } catch (IOException e) {
+            throw new ClassCacheException("写入类元信息索引失败: " + file, e);
+        }
+        return count;
+    }
+
+    /**
+     * 读取索引文件（内存映射，一次性解析）
+     */
+    public static ClassMetadataIndex read(Path file) {
+        ByteBuffer buf;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new ClassCacheException("读取类元信息索引失败: " + file, e);
+        }
+        try {
+            if (buf.getInt() != MAGIC) {
+                throw new ClassCacheException("不是有效的类元信息索引文件: " + file);
+            }
+            // 版本 1 没有记录 setter 参数类型，按字段类型查找 setter
+            int version = buf.getInt();
+            if (version != 1 && version != VERSION) {
+                throw new ClassCacheException("不支持的类元信息索引版本 " + version + ": " + file);
+            }
+            int count = buf.getInt();
+            Map<String, Entry> entries = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                Entry entry = Entry.readFrom(buf, version);
+                entries.put(entry.className, entry);
+            }
+            return new ClassMetadataIndex(entries);
+        } catch (RuntimeException e) {
+            if (e instanceof ClassCacheException) {
+                throw e;
+            }
+            throw new ClassCacheException("类元信息索引文件已损坏: " + file, e);
+        }
+    }
+
+    /**
+     * 获取类的索引项；不存在或 class 文件已变化时返回 null
+     */
+    public Entry entry(Class<?> type) {
+        Entry entry = entries.get(type.getName());
+        if (entry == null || !entry.isFresh(type)) {
+            return null;
+        }
+        return entry;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 字段/方法排序和 getter/setter 配对不依赖 JDK 类，只索引应用类
+     */
+    private static boolean isIndexable(Class<?> type) {
+        return type != null && type != Object.class && type != Record.class
+                && !type.isPrimitive() && !type.isArray() && type.getClassLoader() != null;
+    }
+
+    private static Entry build(Class<?> type) {
+        long crc = hierarchyCrc(type);
+        if (crc < 0) {
+            return null;
+        }
+        List<Field> fields = ClassMetadata.orderedDeclaredFields(type);
+        String[] fieldNames = new String[fields.size()];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = fields.get(i).getName();
+        }
+        List<Method> methods = ClassMetadata.orderedDeclaredMethods(type);
+        String[] signatures = new String[methods.size()];
+        for (int i = 0; i < signatures.length; i++) {
+            signatures[i] = signature(methods.get(i));
+        }
+
+        // getter/setter 配对与 ClassMetadata 的属性配对一致（含 record 组件访问方法、setter 重载选择），
+        // 覆盖整个继承链上的字段，没有 getter/setter 的字段记为空串
+        Map<String, PropertyMetadata> paired = new HashMap<>();
+        for (PropertyMetadata property : new ClassMetadata<>(type).getProperties()) {
+            if (property.field() != null) {
+                paired.putIfAbsent(property.field().getName(), property);
+            }
+        }
+        Map<String, String[]> properties = new LinkedHashMap<>();
+        for (Class<?> t = type; isIndexable(t); t = t.getSuperclass()) {
+            for (Field field : t.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || properties.containsKey(field.getName())) {
+                    continue;
+                }
+                PropertyMetadata property = paired.get(field.getName());
+                MethodMetadata getter = property == null ? null : property.getter();
+                MethodMetadata setter = property == null ? null : property.setter();
+                properties.put(field.getName(), new String[]{
+                        getter == null ? "" : getter.getName(),
+                        setter == null ? "" : setter.getName(),
+                        setter == null ? "" : setter.getOriginMethod().getParameterTypes()[0].getName()});
+            }
+        }
+        return new Entry(type.getName(), crc, fieldNames, signatures, properties);
+    }
+
+    /**
+     * 方法的精确签名（不做基本类型装箱），用于在反射结果中定位方法
+     */
+    public static String signature(Method method) {
+        StringJoiner sj = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> p : method.getParameterTypes()) {
+            sj.add(p.getName());
+        }
+        return sj.toString();
+    }
+
+    /**
+     * 类自身及所有父类 class 文件字节的组合 CRC32；读取不到 class 文件时返回 -1。结果按类缓存
+     */
+    static long hierarchyCrc(Class<?> type) {
+        return HIERARCHY_CRC.get(type);
+    }
+
+    private static long computeHierarchyCrc(Class<?> type) {
+        CRC32 crc = new CRC32();
+        String resource = type.getName().replace('.', '/') + ".class";
+        try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                return -1;
+            }
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                crc.update(buf, 0, n);
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        Class<?> superclass = type.getSuperclass();
+        if (isIndexable(superclass)) {
+            long superCrc = hierarchyCrc(superclass);
+            if (superCrc < 0) {
+                return -1;
+            }
+            ByteBuffer combined = ByteBuffer.allocate(Long.BYTES * 2).putLong(crc.getValue()).putLong(superCrc);
+            crc.reset();
+            crc.update(combined.array());
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * 单个类的索引项
+     */
+    public static final class Entry {
+        private final String className;
+        private final long crc;
+        private final String[] fieldNames;
+        private final String[] methodSignatures;
+        private final Map<String, String[]> properties;
+
+        private Entry(String className, long crc, String[] fieldNames, String[] methodSignatures, Map<String, String[]> properties) {
+            this.className = className;
+            this.crc = crc;
+            this.fieldNames = fieldNames;
+            this.methodSignatures = methodSignatures;
+            this.properties = properties;
+        }
+
+        /**
+         * 该类自身声明的字段名，已按 @Index 排序
+         */
+        public String[] fieldNames() {
+            return fieldNames.clone();
+        }
+
+        /**
+         * 该类自身声明的方法签名（见 {@link #signature(Method)}），已按 @Index 排序
+         */
+        public String[] methodSignatures() {
+            return methodSignatures.clone();
+        }
+
+        /**
+         * 字段对应的 getter 方法名，没有时返回 null
+         */
+        public String getterOf(String fieldName) {
+            String[] pair = properties.get(fieldName);
+            return pair == null || pair[0].isEmpty() ? null : pair[0];
+        }
+
+        /**
+         * 字段对应的 setter 方法名，没有时返回 null
+         */
+        public String setterOf(String fieldName) {
+            String[] pair = properties.get(fieldName);
+            return pair == null || pair[1].isEmpty() ? null : pair[1];
+        }
+
+        /**
+         * 字段对应 setter 的参数类型名，没有 setter 或索引未记录（版本 1）时返回 null
+         */
+        public String setterTypeOf(String fieldName) {
+            String[] pair = properties.get(fieldName);
+            return pair == null || pair[2].isEmpty() ? null : pair[2];
+        }
+
+        /**
+         * 是否记录了该字段的 getter/setter 配对
+         */
+        public boolean hasProperty(String fieldName) {
+            return properties.containsKey(fieldName);
+        }
+
+        /**
+         * 索引项只按类名登记，不同类加载器或热部署后的同名类需要各自校验，因此不在索引项上缓存结果；
+         * 继承链 CRC 按 Class 对象缓存在 {@link #HIERARCHY_CRC} 中，这里只是一次比较
+         */
+        private boolean isFresh(Class<?> type) {
+            return hierarchyCrc(type) == crc;
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            writeString(out, className);
+            out.writeLong(crc);
+            writeStrings(out, fieldNames);
+            writeStrings(out, methodSignatures);
+            out.writeInt(properties.size());
+            for (Map.Entry<String, String[]> e : properties.entrySet()) {
+                writeString(out, e.getKey());
+                writeString(out, e.getValue()[0]);
+                writeString(out, e.getValue()[1]);
+                writeString(out, e.getValue()[2]);
+            }
+        }
+
+        private static Entry readFrom(ByteBuffer buf, int version) {
+            String className = readString(buf);
+            long crc = buf.getLong();
+            String[] fieldNames = readStrings(buf);
+            String[] methodSignatures = readStrings(buf);
+            int propertyCount = buf.getInt();
+            Map<String, String[]> properties = new HashMap<>(propertyCount * 2);
+            for (int i = 0; i < propertyCount; i++) {
+                String name = readString(buf);
+                properties.put(name, new String[]{readString(buf), readString(buf), version == 1 ? "" : readString(buf)});
+            }
+            return new Entry(className, crc, fieldNames, methodSignatures, properties);
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String[] readStrings(ByteBuffer buf) {
+        String[] values = new String[buf.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(buf);
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,117 @@
+package xyz.ytora.ytool.classcache;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * created by yangtong on 2026/10/18 10:12:40
+ * <br/>
+ * 包扫描工具，同时支持目录和 jar 包内的 class 文件
+ */
+public class ClassScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private ClassScanner() {
+    }
+
+    /**
+     * 扫描指定包（含子包）下的所有类，使用线程上下文类加载器
+     */
+    public static List<Class<?>> scan(String basePackage) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ClassScanner.class.getClassLoader();
+        }
+        return scan(basePackage, loader);
+    }
+
+    /**
+     * 扫描指定包（含子包）下的所有类
+     * <p>
+     * 类只加载不初始化；无法加载的类（依赖缺失等）会被跳过
+     * </p>
+     */
+    public static List<Class<?>> scan(String basePackage, ClassLoader loader) {
+        if (basePackage == null || loader == null) {
+            throw new ClassCacheException("扫描包时 basePackage 和 ClassLoader 不能为空");
+        }
+        String path = basePackage.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    File dir = new File(URLDecoder.decode(url.getFile(), StandardCharsets.UTF_8));
+                    collectFromDirectory(dir, basePackage, classNames);
+                } else if ("jar".equals(url.getProtocol())) {
+                    collectFromJar(url, path, classNames);
+                }
+            }
+        } catch (IOException e) {
+            throw new ClassCacheException("扫描包失败: " + basePackage, e);
+        }
+
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // 缺少依赖的类直接跳过
+            }
+        }
+        return classes;
+    }
+
+    private static void collectFromDirectory(File dir, String packageName, Set<String> out) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                collectFromDirectory(file, packageName + "." + name, out);
+            } else if (isClassFile(name)) {
+                out.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    private static void collectFromJar(URL url, String path, Set<String> out) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection jarConnection)) {
+            return;
+        }
+        jarConnection.setUseCaches(false);
+        try (JarFile jar = jarConnection.getJarFile()) {
+            String prefix = path + "/";
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(prefix) && isClassFile(name.substring(name.lastIndexOf('/') + 1))) {
+                    out.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+                }
+            }
+        }
+    }
+
+    private static boolean isClassFile(String fileName) {
+        return fileName.endsWith(CLASS_SUFFIX)
+                && !fileName.equals("module-info.class")
+                && !fileName.equals("package-info.class");
+    }
+}
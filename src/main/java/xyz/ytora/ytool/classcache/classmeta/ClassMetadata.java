@@ -1,7 +1,9 @@
 package xyz.ytora.ytool.classcache.classmeta;
 
 import xyz.ytora.ytool.anno.Index;
+import xyz.ytora.ytool.classcache.ClassCache;
 import xyz.ytora.ytool.classcache.ClassCacheException;
+import xyz.ytora.ytool.classcache.ClassMetadataIndex;
 import xyz.ytora.ytool.str.Strs;
 
 import java.lang.annotation.Annotation;
@@ -17,19 +19,7 @@ import java.util.stream.Collectors;
  */
 public class ClassMetadata<T> {
 
-    private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = new HashMap<>();
-
-    {
-        PRIMITIVE_TO_WRAPPER.put(boolean.class, Boolean.class);
-        PRIMITIVE_TO_WRAPPER.put(byte.class, Byte.class);
-        PRIMITIVE_TO_WRAPPER.put(char.class, Character.class);
-        PRIMITIVE_TO_WRAPPER.put(short.class, Short.class);
-        PRIMITIVE_TO_WRAPPER.put(int.class, Integer.class);
-        PRIMITIVE_TO_WRAPPER.put(long.class, Long.class);
-        PRIMITIVE_TO_WRAPPER.put(float.class, Float.class);
-        PRIMITIVE_TO_WRAPPER.put(double.class, Double.class);
-        PRIMITIVE_TO_WRAPPER.put(void.class, Void.class);
-    }
+    private static final List<String> IGNORE_METHOD_LIST = List.of("toString", "equals", "canEqual", "hashCode", "clone");
 
     /**
      * 类对象
@@ -44,103 +34,37 @@ public class ClassMetadata<T> {
      * 简单类名
      */
     private final String simpleName;
+
+    /*
+     * 以下各部分在首次使用时才收集（双重检查 + volatile 发布），互不依赖：
+     * 只用到字段的调用方不会触发方法和构造器的反射扫描
+     */
+
     /**
      * 类注解
      */
-    private final Map<Class<? extends Annotation>, Annotation> classAnnotations;
+    private volatile Map<Class<? extends Annotation>, Annotation> classAnnotations;
     /**
      * 类字段
      */
-    private final Map<String, FieldMetadata> fields = new LinkedHashMap<>();
+    private volatile Map<String, FieldMetadata> fields;
     /**
      * 构造器方法
      */
-    private final Map<String, ConstructorMetadata<T>> constructors = new LinkedHashMap<>();
+    private volatile Map<MemberKey, ConstructorMetadata<T>> constructors;
     /**
      * 类方法
      */
-    private final Map<String, MethodMetadata> methods = new LinkedHashMap<>();
-
-    /**
-     * 字段排序规则
-     */
-    Comparator<Field> fieldComparator = (f1, f2) -> {
-        // 获取两个字段的 Order 值
-        Index order1 = f1.getAnnotation(Index.class);
-        Index order2 = f2.getAnnotation(Index.class);
-        // 有注解返回注解值，没注解返回 Integer 最大值（排到最后）
-        int v1 = (order1 != null) ? order1.value() : Integer.MAX_VALUE;
-        int v2 = (order2 != null) ? order2.value() : Integer.MAX_VALUE;
-
-        // 1. 先比数值
-        int result = Integer.compare(v1, v2);
-
-        // 2. 数值一样，比字段名字典序（防止顺序随机）
-        if (result == 0) {
-            return f1.getName().compareTo(f2.getName());
-        }
-        return result;
-    };
-
-    List<String> ignoreMethodList = List.of("toString", "equals", "canEqual", "hashCode", "clone");
+    private volatile Map<MemberKey, MethodMetadata> methods;
     /**
-     * 方法排序规则
+     * 属性（字段 + getter + setter）
      */
-    Comparator<Method> methodComparator = (m1, m2) -> {
-        // 获取两个字段的 Order 值
-        Index order1 = m1.getAnnotation(Index.class);
-        if (order1 == null) {
-            String name = m1.getName();
-            if (name.startsWith("get") || name.startsWith("set")) {
-                name = Strs.firstLowercase(name.substring(3));
-            } else if (name.startsWith("is")) {
-                name = Strs.firstLowercase(name.substring(2));
-            }
-            try {
-                Field f1 = m1.getDeclaringClass().getDeclaredField(name);
-                order1 = f1.getAnnotation(Index.class);
-            } catch (NoSuchFieldException ignored) {
-            }
-        }
-
-        Index order2 = m2.getAnnotation(Index.class);
-        if (order2 == null) {
-            String name = m2.getName();
-            if (name.startsWith("get") || name.startsWith("set")) {
-                name = Strs.firstLowercase(name.substring(3));
-            } else if (name.startsWith("is")) {
-                name = Strs.firstLowercase(name.substring(2));
-            }
-            try {
-                Field f2 = m2.getDeclaringClass().getDeclaredField(name);
-                order2 = f2.getAnnotation(Index.class);
-            } catch (NoSuchFieldException ignored) {
-            }
-        }
-
-        // 有注解返回注解值，没注解返回 Integer 最大值（排到最后）
-        int v1 = (order1 != null) ? order1.value() : Integer.MAX_VALUE;
-        int v2 = (order2 != null) ? order2.value() : Integer.MAX_VALUE;
-
-        // 1. 先比数值
-        int result = Integer.compare(v1, v2);
-
-        // 2. 数值一样，比字段名字典序（防止顺序随机）
-        if (result == 0) {
-            return m1.getName().compareTo(m2.getName());
-        }
-        return result;
-    };
+    private volatile Map<String, PropertyMetadata> properties;
 
     public ClassMetadata(Class<T> sourceClass) {
         this.sourceClass = sourceClass;
         this.className = sourceClass.getName();
         this.simpleName = sourceClass.getSimpleName();
-        this.classAnnotations = Arrays.stream(sourceClass.getAnnotations())
-                .collect(Collectors.toMap(Annotation::annotationType, a -> a));
-        collectFields(sourceClass);
-        collectConstructor(sourceClass);
-        collectMethods(sourceClass);
     }
 
     public String getClassName() {
@@ -159,14 +83,14 @@ public class ClassMetadata<T> {
      * 获取原始字段信息
      */
     public Map<String, FieldMetadata> getSourceFieldMap() {
-        return fields;
+        return fields();
     }
 
     /**
      * 获取当前class的指定字段
      */
     public FieldMetadata getField(String name) {
-        FieldMetadata field = fields.get(name);
+        FieldMetadata field = fields().get(name);
         if (field == null) {
             throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到【" + name + "】字段");
         }
@@ -188,8 +112,7 @@ public class ClassMetadata<T> {
             filter = f -> true;
         }
         List<FieldMetadata> fieldMetadataList = new ArrayList<>();
-        for (String fieldKey : fields.keySet()) {
-            FieldMetadata fieldMetadata = fields.get(fieldKey);
+        for (FieldMetadata fieldMetadata : fields().values()) {
             if (filter.test(fieldMetadata)) {
                 fieldMetadataList.add(fieldMetadata);
             }
@@ -197,24 +120,61 @@ public class ClassMetadata<T> {
         return fieldMetadataList;
     }
 
+    /**
+     * 查找当前class的指定字段，不存在时返回 null
+     */
+    public FieldMetadata findField(String name) {
+        return fields().get(name);
+    }
+
     public ConstructorMetadata<T> getConstructor(Class<?>... paramTypes) {
-        String constructorKey = buildMethodKey(sourceClass.getName(), paramTypes);
-        ConstructorMetadata<T> constructor = constructors.get(constructorKey);
+        ConstructorMetadata<T> constructor = findConstructor(paramTypes);
         if (constructor == null) {
-            throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到签名为【" + constructorKey + "】的方法");
+            throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到签名为【" + MemberKey.of(sourceClass.getName(), paramTypes) + "】的方法");
         }
         return constructor;
     }
 
+    /**
+     * 查找构造器，不存在时返回 null
+     */
+    public ConstructorMetadata<T> findConstructor(Class<?>... paramTypes) {
+        return constructors().get(MemberKey.of(sourceClass.getName(), paramTypes));
+    }
+
     public MethodMetadata getMethod(String name, Class<?>... paramTypes) {
-        String methodKey = buildMethodKey(name, paramTypes);
-        MethodMetadata method = methods.get(methodKey);
+        MethodMetadata method = findMethod(name, paramTypes);
         if (method == null) {
-            throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到签名为【" + methodKey + "】的方法");
+            throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到签名为【" + MemberKey.of(name, paramTypes) + "】的方法");
         }
         return method;
     }
 
+    /**
+     * 查找方法，不存在时返回 null
+     */
+    public MethodMetadata findMethod(String name, Class<?>... paramTypes) {
+        return methods().get(MemberKey.of(name, paramTypes));
+    }
+
+    /**
+     * 按签名键查找方法，不存在时返回 null；键可预先创建并复用
+     */
+    public MethodMetadata findMethod(MemberKey key) {
+        return methods().get(key);
+    }
+
+    /**
+     * 根据 Method 对象查找对应的 MethodMetadata，不存在（或已被同签名方法覆盖）时返回 null
+     */
+    public MethodMetadata getMethod(Method method) {
+        MethodMetadata metadata = methods().get(MemberKey.of(method.getName(), method.getParameterTypes()));
+        if (metadata != null && metadata.getOriginMethod().equals(method)) {
+            return metadata;
+        }
+        return null;
+    }
+
     /**
      * 获取当前class的全部方法
      */
@@ -230,8 +190,7 @@ public class ClassMetadata<T> {
             filter = f -> true;
         }
         List<MethodMetadata> methodMetadataList = new ArrayList<>();
-        for (String fieldKey : methods.keySet()) {
-            MethodMetadata methodMetadata = methods.get(fieldKey);
+        for (MethodMetadata methodMetadata : methods().values()) {
             if (filter.test(methodMetadata)) {
                 methodMetadataList.add(methodMetadata);
             }
@@ -239,27 +198,235 @@ public class ClassMetadata<T> {
         return methodMetadataList;
     }
 
+    /**
+     * 获取当前class的全部属性（至少有 getter 或 setter），按 getter 在方法列表中的顺序排列
+     */
+    public List<PropertyMetadata> getProperties() {
+        return new ArrayList<>(properties().values());
+    }
+
+    /**
+     * 获取属性表（只读），key 为属性名
+     */
+    public Map<String, PropertyMetadata> getPropertyMap() {
+        return properties();
+    }
+
+    /**
+     * 获取当前class的指定属性
+     */
+    public PropertyMetadata getProperty(String name) {
+        PropertyMetadata property = properties().get(name);
+        if (property == null) {
+            throw new ClassCacheException("从【" + sourceClass.getName() + "】类中未找到【" + name + "】属性");
+        }
+        return property;
+    }
+
+    /**
+     * 收集全部成员，并预先创建字段、方法、构造器的句柄和属性的访问器（预热用），见 {@link ClassCache#prewarm(Class[])}。
+     * 个别成员的句柄无法创建（如没有访问权限）时跳过，首次使用该成员时再按原方式报错
+     */
+    public void prepare() {
+        classAnnotations();
+        for (FieldMetadata field : fields().values()) {
+            try {
+                field.prepare();
+            } catch (Exception | LinkageError ignored) {
+                // 首次使用时再报错
+            }
+        }
+        for (MethodMetadata method : methods().values()) {
+            try {
+                method.prepare();
+            } catch (Exception | LinkageError ignored) {
+                // 首次使用时再报错
+            }
+        }
+        for (ConstructorMetadata<T> constructor : constructors().values()) {
+            try {
+                constructor.prepare();
+            } catch (Exception | LinkageError ignored) {
+                // 首次使用时再报错
+            }
+        }
+        for (PropertyMetadata property : properties().values()) {
+            try {
+                property.prepare();
+            } catch (Exception | LinkageError ignored) {
+                // 首次使用时再报错
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <A extends Annotation> A getAnnotation(Class<A> type) {
-        return (A) classAnnotations.get(type);
+        return (A) classAnnotations().get(type);
     }
 
     public boolean hasAnnotation(Class<? extends Annotation> type) {
-        return classAnnotations.containsKey(type);
+        return classAnnotations().containsKey(type);
+    }
+
+    private Map<Class<? extends Annotation>, Annotation> classAnnotations() {
+        Map<Class<? extends Annotation>, Annotation> m = classAnnotations;
+        if (m == null) {
+            synchronized (this) {
+                m = classAnnotations;
+                if (m == null) {
+                    m = Arrays.stream(sourceClass.getAnnotations())
+                            .collect(Collectors.toMap(Annotation::annotationType, a -> a));
+                    classAnnotations = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    private Map<String, FieldMetadata> fields() {
+        Map<String, FieldMetadata> m = fields;
+        if (m == null) {
+            synchronized (this) {
+                m = fields;
+                if (m == null) {
+                    m = new LinkedHashMap<>();
+                    collectFields(sourceClass, m);
+                    fields = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    private Map<MemberKey, ConstructorMetadata<T>> constructors() {
+        Map<MemberKey, ConstructorMetadata<T>> m = constructors;
+        if (m == null) {
+            synchronized (this) {
+                m = constructors;
+                if (m == null) {
+                    m = new LinkedHashMap<>();
+                    collectConstructor(sourceClass, m);
+                    constructors = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    private Map<MemberKey, MethodMetadata> methods() {
+        Map<MemberKey, MethodMetadata> m = methods;
+        if (m == null) {
+            synchronized (this) {
+                m = methods;
+                if (m == null) {
+                    m = new LinkedHashMap<>();
+                    collectMethods(sourceClass, m);
+                    methods = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    private Map<String, PropertyMetadata> properties() {
+        Map<String, PropertyMetadata> m = properties;
+        if (m == null) {
+            synchronized (this) {
+                m = properties;
+                if (m == null) {
+                    m = Collections.unmodifiableMap(collectProperties());
+                    properties = m;
+                }
+            }
+        }
+        return m;
+    }
+
+    /**
+     * 配对 getter/setter/字段
+     */
+    private Map<String, PropertyMetadata> collectProperties() {
+        Map<String, FieldMetadata> fieldMap = fields();
+        boolean isRecord = sourceClass.isRecord();
+        Map<String, MethodMetadata> getters = new LinkedHashMap<>();
+        Map<String, List<MethodMetadata>> setters = new LinkedHashMap<>();
+        for (MethodMetadata mm : methods().values()) {
+            if (mm.isStatic()) {
+                continue;
+            }
+            String name = mm.getName();
+            int paramCount = mm.parameters().size();
+            if (paramCount == 0 && mm.returnType() != void.class) {
+                String prop = null;
+                // record类没有getter，组件访问方法与字段同名
+                if (isRecord) {
+                    if (fieldMap.containsKey(name)) {
+                        prop = name;
+                    }
+                } else if (name.startsWith("get") && name.length() > 3) {
+                    prop = decap(name.substring(3));
+                } else if (name.startsWith("is") && name.length() > 2
+                        && (mm.returnType() == boolean.class || mm.returnType() == Boolean.class)) {
+                    prop = decap(name.substring(2));
+                }
+                if (prop != null && !"class".equals(prop)) {
+                    getters.put(prop, mm);
+                }
+            } else if (paramCount == 1 && !isRecord && name.startsWith("set") && name.length() > 3) {
+                setters.computeIfAbsent(decap(name.substring(3)), k -> new ArrayList<>(1)).add(mm);
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>(getters.keySet());
+        names.addAll(setters.keySet());
+        Map<String, PropertyMetadata> result = new LinkedHashMap<>();
+        for (String name : names) {
+            MethodMetadata getter = getters.get(name);
+            FieldMetadata field = fieldMap.get(name);
+            if (field == null && getter != null && getter.getName().startsWith("is")) {
+                // boolean 字段本身以 is 开头的情况，如 isActive 字段对应 isActive() 方法
+                field = fieldMap.get(getter.getName());
+            }
+            Class<?> expected = getter != null ? getter.returnType() : field != null ? field.getType() : null;
+            MethodMetadata setter = chooseSetter(setters.get(name), expected);
+            result.put(name, new PropertyMetadata(name, field, getter, setter));
+        }
+        return result;
+    }
+
+    /**
+     * setter 有重载时，优先取参数类型与属性类型一致的那个
+     */
+    private static MethodMetadata chooseSetter(List<MethodMetadata> candidates, Class<?> expected) {
+        if (candidates == null) {
+            return null;
+        }
+        for (MethodMetadata candidate : candidates) {
+            if (candidate.parameters().get(0).getType() == expected) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * 首字母小写（与 JSON 属性名的推导规则一致，不处理连续大写）
+     */
+    private static String decap(String s) {
+        char c0 = s.charAt(0);
+        char lc = Character.toLowerCase(c0);
+        return (c0 == lc) ? s : lc + s.substring(1);
     }
 
     /**
      * 收集类的字段
      */
-    private void collectFields(Class<?> type) {
+    private void collectFields(Class<?> type, Map<String, FieldMetadata> out) {
         if (type != null && type != Object.class && type != Record.class) {
             // 先收集父类字段
-            collectFields(type.getSuperclass());
+            collectFields(type.getSuperclass(), out);
 
-            Field[] fields = type.getDeclaredFields();
-
-            // 由于getDeclaredFields返回的数组是无序，需要手动排序
-            List<Field> fieldList = Arrays.stream(fields).sorted(fieldComparator).toList();
+            List<Field> fieldList = declaredFields(type);
             for (Field field : fieldList) {
                 try {
                     field.setAccessible(true);
@@ -268,60 +435,137 @@ public class ClassMetadata<T> {
                 }
 
                 //父类优先
-                this.fields.put(field.getName(), new FieldMetadata(this, field));
+                out.put(field.getName(), new FieldMetadata(this, field));
             }
         }
     }
 
-    private void collectConstructor(Class<?> type) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void collectConstructor(Class<?> type, Map<MemberKey, ConstructorMetadata<T>> out) {
         if (type != null && type != Object.class && type != Record.class) {
             // 优先收集父类的构造器
-            collectConstructor(type.getSuperclass());
+            collectConstructor(type.getSuperclass(), out);
             for (Constructor<?> constructor : type.getDeclaredConstructors()) {
                 try {
                     constructor.setAccessible(true);
                 } catch (SecurityException e) {
 
                 }
-                String key = buildMethodKey(type.getName(), constructor.getParameterTypes());
+                MemberKey key = MemberKey.of(type.getName(), constructor.getParameterTypes());
                 //子类优先
-                constructors.put(key, new ConstructorMetadata(constructor));
+                out.put(key, new ConstructorMetadata(constructor));
             }
         }
     }
 
-    private void collectMethods(Class<?> type) {
+    private void collectMethods(Class<?> type, Map<MemberKey, MethodMetadata> out) {
         if (type != null && type != Object.class && type != Record.class) {
             // 优先收集父类的方法
-            collectMethods(type.getSuperclass());
-            Method[] methods = type.getDeclaredMethods();
-            List<Method> methodList = Arrays.stream(methods)
-                    .filter(i -> !ignoreMethodList.contains(i.getName()))
-                    .sorted(methodComparator)
-                    .toList();
+            collectMethods(type.getSuperclass(), out);
+            List<Method> methodList = declaredMethods(type);
             for (Method method : methodList) {
                 try {
                     method.setAccessible(true);
                 } catch (SecurityException e) {
 
                 }
-                String key = buildMethodKey(method.getName(), method.getParameterTypes());
+                MemberKey key = MemberKey.of(method.getName(), method.getParameterTypes());
                 //子类优先
-                this.methods.put(key, new MethodMetadata(this, method));
+                out.put(key, new MethodMetadata(this, method));
+            }
+        }
+    }
+
+    /**
+     * 类自身声明的字段，优先按索引文件记录的顺序排列，没有有效索引时反射排序
+     */
+    private static List<Field> declaredFields(Class<?> type) {
+        ClassMetadataIndex.Entry entry = ClassCache.indexEntry(type);
+        if (entry != null) {
+            Field[] fields = type.getDeclaredFields();
+            String[] names = entry.fieldNames();
+            if (names.length == fields.length) {
+                Map<String, Field> byName = new HashMap<>(fields.length * 2);
+                for (Field field : fields) {
+                    byName.put(field.getName(), field);
+                }
+                List<Field> ordered = new ArrayList<>(names.length);
+                for (String name : names) {
+                    Field field = byName.get(name);
+                    if (field == null) {
+                        return orderedDeclaredFields(type);
+                    }
+                    ordered.add(field);
+                }
+                return ordered;
+            }
+        }
+        return orderedDeclaredFields(type);
+    }
+
+    /**
+     * 类自身声明的方法（不含 toString 等），优先按索引文件记录的顺序排列，没有有效索引时反射排序
+     */
+    private static List<Method> declaredMethods(Class<?> type) {
+        ClassMetadataIndex.Entry entry = ClassCache.indexEntry(type);
+        if (entry != null) {
+            Map<String, Method> bySignature = new HashMap<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if (!IGNORE_METHOD_LIST.contains(method.getName())) {
+                    bySignature.put(ClassMetadataIndex.signature(method), method);
+                }
+            }
+            String[] signatures = entry.methodSignatures();
+            if (signatures.length == bySignature.size()) {
+                List<Method> ordered = new ArrayList<>(signatures.length);
+                for (String signature : signatures) {
+                    Method method = bySignature.get(signature);
+                    if (method == null) {
+                        return orderedDeclaredMethods(type);
+                    }
+                    ordered.add(method);
+                }
+                return ordered;
             }
         }
+        return orderedDeclaredMethods(type);
     }
 
-    private String buildMethodKey(String methodName, Class<?>[] parameterTypes) {
-        StringJoiner sj = new StringJoiner(",");
-        //需要编译参数加 -parameters 参数才能获得参数名称
-        for (Class<?> parameterType : parameterTypes) {
-            //如果是基本类型，就转换为包装类型
-//            Class<?> realType = Reflects.primitiveToWrapper(parameterType);
-            Class<?> realType = parameterType.isPrimitive() ? PRIMITIVE_TO_WRAPPER.get(parameterType) : parameterType;
-            sj.add(realType.getName());
+    /**
+     * 类自身声明的字段，按 @Index 值、字段名排序（getDeclaredFields 返回的数组是无序的）
+     */
+    public static List<Field> orderedDeclaredFields(Class<?> type) {
+        // 排序键预先算好，避免比较时重复读取注解
+        Field[] fields = type.getDeclaredFields();
+        List<Ordered<Field>> list = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            list.add(new Ordered<>(field, field.getName(), getOrderValue(field)));
+        }
+        list.sort(Ordered.ORDER);
+        List<Field> result = new ArrayList<>(list.size());
+        for (Ordered<Field> ordered : list) {
+            result.add(ordered.member());
         }
-        return methodName + "(" + sj + ")";
+        return result;
+    }
+
+    /**
+     * 类自身声明的方法（不含 toString 等），按 @Index 值（方法上没有时取对应字段上的）、方法名排序
+     */
+    public static List<Method> orderedDeclaredMethods(Class<?> type) {
+        Method[] methods = type.getDeclaredMethods();
+        List<Ordered<Method>> list = new ArrayList<>(methods.length);
+        for (Method method : methods) {
+            if (!IGNORE_METHOD_LIST.contains(method.getName())) {
+                list.add(new Ordered<>(method, method.getName(), getOrderValue(method)));
+            }
+        }
+        list.sort(Ordered.ORDER);
+        List<Method> result = new ArrayList<>(list.size());
+        for (Ordered<Method> ordered : list) {
+            result.add(ordered.member());
+        }
+        return result;
     }
 
     private static int getOrderValue(Field field) {
@@ -329,4 +573,34 @@ public class ClassMetadata<T> {
         // 有注解返回注解值，没注解返回 Integer 最大值（排到最后）
         return (order != null) ? order.value() : Integer.MAX_VALUE;
     }
+
+    /**
+     * 方法的排序值：方法自身没有 @Index 时，取 getter/setter 对应字段上的 @Index
+     */
+    private static int getOrderValue(Method method) {
+        Index order = method.getAnnotation(Index.class);
+        if (order == null) {
+            String name = method.getName();
+            if (name.startsWith("get") || name.startsWith("set")) {
+                name = Strs.firstLowercase(name.substring(3));
+            } else if (name.startsWith("is")) {
+                name = Strs.firstLowercase(name.substring(2));
+            }
+            try {
+                Field field = method.getDeclaringClass().getDeclaredField(name);
+                order = field.getAnnotation(Index.class);
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        return (order != null) ? order.value() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 带预先计算好排序键的成员：先比 @Index 值，相同再比名称字典序（防止顺序随机）
+     */
+    private record Ordered<M>(M member, String name, int order) {
+        static final Comparator<Ordered<?>> ORDER = Comparator
+                .<Ordered<?>>comparingInt(Ordered::order)
+                .thenComparing(Ordered::name);
+    }
 }
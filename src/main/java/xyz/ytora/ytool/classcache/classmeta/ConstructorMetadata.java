@@ -3,6 +3,8 @@ package xyz.ytora.ytool.classcache.classmeta;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
@@ -17,6 +19,27 @@ import java.util.stream.Collectors;
  * 构造器元数据
  */
 public class ConstructorMetadata<T> {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * cachedCtorHandle 的 CAS 发布
+     */
+    private static final VarHandle CACHED_CTOR_HANDLE;
+
+    static {
+        try {
+            CACHED_CTOR_HANDLE = MethodHandles.lookup().findVarHandle(ConstructorMetadata.class, "cachedCtorHandle", MethodHandle.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 不超过该参数个数的构造器直接按参数个数调用，更多参数时展开数组
+     */
+    private static final int MAX_SPECIALIZED_ARITY = 4;
+
     /**
      * 构造器
      */
@@ -31,11 +54,13 @@ public class ConstructorMetadata<T> {
     private final Map<Class<? extends Annotation>, Annotation> annotations;
 
     /**
-     * MethodHandle 缓存
+     * MethodHandle 缓存，首次创建后通过 CAS 发布，见 {@link #handle()}
      */
     private volatile MethodHandle cachedCtorHandle;
-    private volatile MethodHandle cachedCtorHandleSpreader; // 将 Object[] 展开为形参的 spreader 句柄
-    private final Object mhInitLock = new Object();
+    /**
+     * 适配为固定签名后的调用句柄（见 {@link #invoker()}），重复创建无副作用，不加锁
+     */
+    private volatile MethodHandle cachedInvoker;
 
     public ConstructorMetadata(Constructor<T> constructor) {
         this.constructor = constructor;
@@ -53,53 +78,88 @@ public class ConstructorMetadata<T> {
         }
     }
 
+    /**
+     * 使用无参构造实例化对象，不创建参数数组
+     */
+    @SuppressWarnings("unchecked")
+    public T instance() throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        MethodHandle inv = invoker();
+        checkArity(0);
+        try {
+            return (T) inv.invokeExact();
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     /**
      * 使用 MethodHandle 实例化对象（非反射调用路径）。
-     * - 0 参构造：走快速路径（不创建数组/不做展开）
-     * - n 参构造：使用 asSpreader(Object[].class, n) 接受 Object[]，避免 invokeWithArguments 的额外装箱/组装开销
+     * - 句柄按参数个数预先适配为 (Object...)Object，用 invokeExact 调用；
+     * - 参数不超过 {@value #MAX_SPECIALIZED_ARITY} 个时不组装数组，更多参数时展开 Object[]
      * 与 Constructor.newInstance 的异常行为保持兼容：
      * - 访问问题抛 IllegalAccessException
+     * - 参数个数不符抛 IllegalArgumentException
      * - 目标构造抛出的异常被包裹为 InvocationTargetException
      * - 其他底层 Throwable 也包裹为 InvocationTargetException
      */
     @SuppressWarnings("unchecked")
     public T instance(Object... args)
             throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        MethodHandle inv = invoker();
+        Object[] a = args == null ? NO_ARGS : args;
+        checkArity(a.length);
         try {
-            int paramCount = constructor.getParameterCount();
-
-            MethodHandle ctor = ensureCtorHandle();
-
-            if (paramCount == 0) {
-                // 快速路径：无参构造
-                return (T) ctor.invoke(); // invokeExact 也可，但需精准 MethodType；invoke 由 JVM 做适配
+            switch (a.length) {
+                case 0: return (T) inv.invokeExact();
+                case 1: return (T) inv.invokeExact(a[0]);
+                case 2: return (T) inv.invokeExact(a[0], a[1]);
+                case 3: return (T) inv.invokeExact(a[0], a[1], a[2]);
+                case 4: return (T) inv.invokeExact(a[0], a[1], a[2], a[3]);
+                default: return (T) inv.invokeExact(a);
             }
-
-            // 懒构建一个 spreader 句柄，可以直接传 Object[]
-            MethodHandle spreader = cachedCtorHandleSpreader;
-            if (spreader == null) {
-                synchronized (mhInitLock) {
-                    spreader = cachedCtorHandleSpreader;
-                    if (spreader == null) {
-                        spreader = ctor.asSpreader(Object[].class, paramCount);
-                        cachedCtorHandleSpreader = spreader;
-                    }
-                }
-            }
-            return (T) spreader.invoke(args);
-
-        } catch (IllegalAccessException e) {
-            // 无访问权限或模块边界问题
-            throw e;
-        } catch (InstantiationException e) {
-            // 抽象类等不能实例化
-            throw e;
         } catch (Throwable t) {
             // 目标构造器抛出的异常或其它运行期异常，按反射语义包裹
             throw new InvocationTargetException(t);
         }
     }
 
+    private void checkArity(int count) {
+        if (count != parameters.size()) {
+            throw new IllegalArgumentException("构造器【" + constructor.getDeclaringClass().getName() + "】需要 "
+                    + parameters.size() + " 个参数，实际传入 " + count + " 个");
+        }
+    }
+
+    /**
+     * 固定签名的调用句柄：参数个数不超过 {@value #MAX_SPECIALIZED_ARITY} 时为 (Object...)Object，否则为 (Object[])Object
+     */
+    private MethodHandle invoker() throws IllegalAccessException, InstantiationException {
+        MethodHandle inv = cachedInvoker;
+        if (inv == null) {
+            int arity = parameters.size();
+            inv = handle().asFixedArity().asType(MethodType.genericMethodType(arity));
+            if (arity > MAX_SPECIALIZED_ARITY) {
+                inv = inv.asSpreader(Object[].class, arity);
+            }
+            cachedInvoker = inv;
+        }
+        return inv;
+    }
+
+    /**
+     * 预先创建调用句柄（预热用），见 {@link xyz.ytora.ytool.classcache.ClassCache#prewarm(Class[])}
+     */
+    public void prepare() throws IllegalAccessException, InstantiationException {
+        invoker();
+    }
+
+    /**
+     * 获取原始构造器对象
+     */
+    public Constructor<T> getOriginConstructor() {
+        return constructor;
+    }
+
     public <A extends Annotation> A getAnnotation(Class<A> annotationClass) {
         return annotationClass.cast(annotations.get(annotationClass));
     }
@@ -110,35 +170,33 @@ public class ConstructorMetadata<T> {
 
     // ---------------- 构建/缓存构造器句柄 ----------------
 
-    private MethodHandle ensureCtorHandle() throws IllegalAccessException, InstantiationException {
+    /**
+     * 获取（必要时创建）该构造器的 MethodHandle。
+     * 不加锁：并发首次调用时可能各自创建句柄，但只有第一个 CAS 成功的会被发布，其余线程改用它
+     */
+    public MethodHandle handle() throws IllegalAccessException, InstantiationException {
         MethodHandle mh = cachedCtorHandle;
         if (mh != null) return mh;
 
-        synchronized (mhInitLock) {
-            mh = cachedCtorHandle;
-            if (mh != null) return mh;
-
-            try {
-                // 1. 先将构造器设置为可访问
-                constructor.setAccessible(true);
-                // 2. 将反射对象转换为 MethodHandle
-                mh = MethodHandles.lookup().unreflectConstructor(constructor);
-
-                cachedCtorHandle = mh;
-                return mh;
-            } catch (IllegalAccessException e) {
-                throw e;
-            } catch (SecurityException se) {
-                // 安全管理器限制
-                IllegalAccessException iae = new IllegalAccessException(se.getMessage());
-                iae.initCause(se);
-                throw iae;
-            } catch (Throwable t) {
-                // 其他异常包裹为 InstantiationException
-                InstantiationException ie = new InstantiationException(t.getMessage());
-                ie.initCause(t);
-                throw ie;
-            }
+        try {
+            // 1. 先将构造器设置为可访问
+            constructor.setAccessible(true);
+            // 2. 将反射对象转换为 MethodHandle
+            mh = MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw e;
+        } catch (SecurityException se) {
+            // 安全管理器限制
+            IllegalAccessException iae = new IllegalAccessException(se.getMessage());
+            iae.initCause(se);
+            throw iae;
+        } catch (Throwable t) {
+            // 其他异常包裹为 InstantiationException
+            InstantiationException ie = new InstantiationException(t.getMessage());
+            ie.initCause(t);
+            throw ie;
         }
+        MethodHandle published = (MethodHandle) CACHED_CTOR_HANDLE.compareAndExchange(this, null, mh);
+        return published != null ? published : mh;
     }
 }
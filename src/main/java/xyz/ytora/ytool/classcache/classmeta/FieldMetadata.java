@@ -1,6 +1,7 @@
 package xyz.ytora.ytool.classcache.classmeta;
 
-import xyz.ytora.ytool.str.Strs;
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.ClassMetadataIndex;
 
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
@@ -17,6 +18,19 @@ import java.util.stream.Collectors;
  */
 public class FieldMetadata {
 
+    /**
+     * cachedHandle 的 CAS 发布
+     */
+    private static final VarHandle CACHED_HANDLE;
+
+    static {
+        try {
+            CACHED_HANDLE = MethodHandles.lookup().findVarHandle(FieldMetadata.class, "cachedHandle", VarHandle.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * 当前 FieldMetadata 所属的 ClassMetadata
      */
@@ -46,19 +60,21 @@ public class FieldMetadata {
     private final int modifiers;
 
     /**
-     * VarHandle 缓存
+     * VarHandle 缓存，首次创建后通过 CAS 发布，见 {@link #ensureVarHandle()}
      */
     private volatile VarHandle cachedHandle;
 
     /**
-     * 该字段对于的 getter 方法
+     * 该字段对于的 getter 方法，getterResolved 为 true 后才有效（可能为 null，表示没有 getter）
      */
-    private MethodMetadata getter;
+    private volatile MethodMetadata getter;
+    private volatile boolean getterResolved;
 
     /**
-     * 该字段对于的 setter 方法
+     * 该字段对于的 setter 方法，setterResolved 为 true 后才有效（可能为 null，表示没有 setter）
      */
-    private MethodMetadata setter;
+    private volatile MethodMetadata setter;
+    private volatile boolean setterResolved;
 
     public FieldMetadata(ClassMetadata<?> classMetadata, Field sourceField) {
         this.classMetadata = classMetadata;
@@ -155,23 +171,84 @@ public class FieldMetadata {
 
     /* ============================ setter ============================ */
     public MethodMetadata setter() {
-        if (setter != null) {
+        if (setterResolved) {
             return setter;
         }
-        setter = classMetadata.getMethod("set" + Strs.firstCapitalize(name));
-        return setter;
+        // 结果只取决于类结构，并发时重复查找得到的是同一个对象，无需加锁
+        MethodMetadata m;
+        ClassMetadataIndex.Entry entry = ClassCache.indexEntry(classMetadata.getSourceClass());
+        if (entry != null && entry.hasProperty(name)) {
+            String setterName = entry.setterOf(name);
+            m = setterName == null ? null : findSetter(setterName, entry.setterTypeOf(name));
+        } else {
+            PropertyMetadata property = property();
+            m = property == null ? null : property.setter();
+        }
+        setter = m;
+        setterResolved = true;
+        return m;
+    }
+
+    /**
+     * 按索引记录的方法名和参数类型名定位 setter，参数类型可能与字段类型不同（setter 重载选择）
+     */
+    private MethodMetadata findSetter(String setterName, String paramTypeName) {
+        if (paramTypeName == null || type.getName().equals(paramTypeName)) {
+            return classMetadata.findMethod(setterName, type);
+        }
+        for (MethodMetadata method : classMetadata.getMethods()) {
+            Class<?>[] params = method.getOriginMethod().getParameterTypes();
+            if (method.getName().equals(setterName) && params.length == 1 && params[0].getName().equals(paramTypeName)) {
+                return method;
+            }
+        }
+        return null;
     }
 
     /* ============================ getter ============================ */
     public MethodMetadata getter() {
-        if (getter != null) {
+        if (getterResolved) {
             return getter;
         }
-        getter = classMetadata.getMethod("get" + Strs.firstCapitalize(name));
-        if (getter == null) {
-            getter = classMetadata.getMethod("is" + Strs.firstCapitalize(name));
+        MethodMetadata m;
+        ClassMetadataIndex.Entry entry = ClassCache.indexEntry(classMetadata.getSourceClass());
+        if (entry != null && entry.hasProperty(name)) {
+            String getterName = entry.getterOf(name);
+            m = getterName == null ? null : classMetadata.findMethod(getterName);
+        } else {
+            PropertyMetadata property = property();
+            m = property == null ? null : property.getter();
         }
-        return getter;
+        getter = m;
+        getterResolved = true;
+        return m;
+    }
+
+    /**
+     * 预先创建 VarHandle 并查找 getter/setter（预热用），见 {@link ClassCache#prewarm(Class[])}
+     */
+    public void prepare() throws IllegalAccessException {
+        ensureVarHandle();
+        getter();
+        setter();
+    }
+
+    /**
+     * 该字段对应的属性（getter/setter 配对），没有 getter 和 setter 时返回 null
+     */
+    public PropertyMetadata property() {
+        Map<String, PropertyMetadata> properties = classMetadata.getPropertyMap();
+        PropertyMetadata property = properties.get(name);
+        if (property != null && property.field() == this) {
+            return property;
+        }
+        // 属性名与字段名不同的情况，如 boolean isActive 字段对应 active 属性
+        for (PropertyMetadata candidate : properties.values()) {
+            if (candidate.field() == this) {
+                return candidate;
+            }
+        }
+        return null;
     }
 
     public String getName() {
@@ -194,35 +271,31 @@ public class FieldMetadata {
         return modifiers;
     }
 
+    /**
+     * 不加锁：并发首次访问时可能各自创建 VarHandle，但只有第一个 CAS 成功的会被发布，其余线程改用它
+     */
     private VarHandle ensureVarHandle() throws IllegalAccessException {
         VarHandle vh = cachedHandle;
         if (vh != null) return vh;
 
-        synchronized (this) {
-            vh = cachedHandle;
-            if (vh != null) return vh;
-
+        try {
+            // 使用 privateLookupIn 获取对声明类的“私有”访问权限的 Lookup
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                    sourceField.getDeclaringClass(), MethodHandles.lookup());
+            vh = lookup.unreflectVarHandle(sourceField);
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            // 可选放宽：仅用于创建句柄；后续访问仍通过 VarHandle 完成
             try {
-                // 使用 privateLookupIn 获取对声明类的“私有”访问权限的 Lookup
-                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
-                        sourceField.getDeclaringClass(), MethodHandles.lookup());
-                vh = lookup.unreflectVarHandle(sourceField);
-                cachedHandle = vh;
-                return vh;
-            } catch (IllegalAccessException | IllegalArgumentException e) {
-                // 可选放宽：仅用于创建句柄；后续访问仍通过 VarHandle 完成
-                try {
-                    sourceField.setAccessible(true); // 按需启用（注意模块边界下仍可能需要 --add-opens）
-                    MethodHandles.Lookup fallback = MethodHandles.lookup();
-                    vh = fallback.unreflectVarHandle(sourceField);
-                    cachedHandle = vh;
-                    return vh;
-                } catch (IllegalAccessException e2) {
-                    IllegalAccessException iae = new IllegalAccessException(e2.getMessage());
-                    iae.initCause(e2);
-                    throw iae;
-                }
+                sourceField.setAccessible(true); // 按需启用（注意模块边界下仍可能需要 --add-opens）
+                MethodHandles.Lookup fallback = MethodHandles.lookup();
+                vh = fallback.unreflectVarHandle(sourceField);
+            } catch (IllegalAccessException e2) {
+                IllegalAccessException iae = new IllegalAccessException(e2.getMessage());
+                iae.initCause(e2);
+                throw iae;
             }
         }
+        VarHandle published = (VarHandle) CACHED_HANDLE.compareAndExchange(this, null, vh);
+        return published != null ? published : vh;
     }
 }
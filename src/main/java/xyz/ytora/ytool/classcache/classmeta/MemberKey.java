@@ -0,0 +1,89 @@
+package xyz.ytora.ytool.classcache.classmeta;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * created by yangtong on 2026/10/18 18:40:12
+ * <br/>
+ * 方法/构造器的签名键：名称 + 参数类型，基本类型参数按包装类型比较（getMethod("setAge", Integer.class) 能找到 setAge(int)）。
+ * 哈希值在创建时算好，查找时不再拼接字符串
+ */
+public final class MemberKey {
+
+    private static final Class<?>[] NO_PARAMS = new Class<?>[0];
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = Map.of(
+            boolean.class, Boolean.class,
+            byte.class, Byte.class,
+            char.class, Character.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class,
+            void.class, Void.class
+    );
+
+    private final String name;
+    private final Class<?>[] paramTypes;
+    private final int hash;
+
+    private MemberKey(String name, Class<?>[] paramTypes) {
+        this.name = name;
+        this.paramTypes = paramTypes;
+        this.hash = 31 * name.hashCode() + Arrays.hashCode(paramTypes);
+    }
+
+    public static MemberKey of(String name, Class<?>... paramTypes) {
+        if (paramTypes == null || paramTypes.length == 0) {
+            return new MemberKey(name, NO_PARAMS);
+        }
+        Class<?>[] normalized = paramTypes;
+        for (int i = 0; i < paramTypes.length; i++) {
+            Class<?> p = paramTypes[i];
+            if (p != null && p.isPrimitive()) {
+                if (normalized == paramTypes) {
+                    normalized = paramTypes.clone();
+                }
+                normalized[i] = PRIMITIVE_TO_WRAPPER.get(p);
+            }
+        }
+        return new MemberKey(name, normalized);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MemberKey other)) {
+            return false;
+        }
+        return hash == other.hash && name.equals(other.name) && Arrays.equals(paramTypes, other.paramTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * 形如 name(java.lang.Integer,java.lang.String)，仅用于提示信息
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(name).append('(');
+        for (int i = 0; i < paramTypes.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(paramTypes[i] == null ? "null" : paramTypes[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+}
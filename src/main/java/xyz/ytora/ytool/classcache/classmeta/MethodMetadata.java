@@ -5,6 +5,8 @@ import xyz.ytora.ytool.str.Strs;
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -14,6 +16,26 @@ import java.util.stream.Collectors;
  */
 public class MethodMetadata {
 
+    private static final Object[] NO_ARGS = new Object[0];
+
+    /**
+     * cachedHandle 的 CAS 发布
+     */
+    private static final VarHandle CACHED_HANDLE;
+
+    static {
+        try {
+            CACHED_HANDLE = MethodHandles.lookup().findVarHandle(MethodMetadata.class, "cachedHandle", MethodHandle.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * 不超过该参数个数的方法直接按参数个数调用，更多参数时展开数组
+     */
+    private static final int MAX_SPECIALIZED_ARITY = 4;
+
     /**
      * 当前 MethodMetadata 所属的 ClassMetadata
      */
@@ -67,14 +89,19 @@ public class MethodMetadata {
     private final Integer modifiers;
 
     /**
-     * MethodHandle缓存
+     * MethodHandle缓存，首次创建后通过 CAS 发布，见 {@link #handle()}
      */
     private volatile MethodHandle cachedHandle;
 
+    /**
+     * 适配为固定签名后的调用句柄（见 {@link #invoker()}），重复创建无副作用，不加锁
+     */
+    private volatile MethodHandle cachedInvoker;
+
     /**
      * 当前 getter 或 setter 方法所属的字段
      */
-    private FieldMetadata toField;
+    private volatile FieldMetadata toField;
 
 
     public MethodMetadata(ClassMetadata<?> classMetadata, Method method) {
@@ -98,49 +125,148 @@ public class MethodMetadata {
         }
     }
 
+    /**
+     * 调用无参方法（实例方法的 getter 等），不创建参数数组
+     */
+    public Object invoke(Object obj) throws InvocationTargetException, IllegalAccessException {
+        if (method.isVarArgs()) {
+            return invoke(obj, NO_ARGS);
+        }
+        MethodHandle inv = invoker();
+        checkArity(0);
+        try {
+            return isStatic() ? inv.invokeExact() : inv.invokeExact(obj);
+        } catch (Throwable t) {
+            // 与 Method.invoke 行为保持一致：将目标方法抛出的异常包裹
+            throw new InvocationTargetException(t);
+        }
+    }
+
     /**
      * 通过 MethodHandle 调用方法
+     * <p>
+     * 句柄按参数个数预先适配为 (Object...)Object 的固定签名，用 invokeExact 调用，
+     * 参数不超过 {@value #MAX_SPECIALIZED_ARITY} 个时不再组装参数数组。
+     * 可变参数方法的实参已按形参个数给出（最后一个为数组或 null）时同样走固定签名，
+     * 否则按 Method.invoke 之前的行为把多出的实参收集为数组，见 {@link #invokeVarargs(Object, Object[])}
+     * </p>
      */
     public <T> Object invoke(T obj, Object... args) throws InvocationTargetException, IllegalAccessException {
+        Object[] a = args == null ? NO_ARGS : args;
+        if (method.isVarArgs() && !isFixedArityCall(a)) {
+            return invokeVarargs(obj, a);
+        }
+        MethodHandle inv = invoker();
+        checkArity(a.length);
         try {
-            MethodHandle mh = cachedHandle;
-            if (mh == null) {
-                synchronized (this) {
-                    mh = cachedHandle;
-                    if (mh == null) {
-                        // 如需支持访问非 public 成员，可能需要在模块/包层面开放访问；
-                        // 可在此处 method.setAccessible(true) 再 unreflect。
-                        // method.setAccessible(true); // 可选：按需启用
-                        mh = MethodHandles.lookup().unreflect(method);
-                        cachedHandle = mh;
-                    }
-                }
-            }
-
-            // 组装调用参数
-            Object result;
-            if (Modifier.isStatic(modifiers)) {
+            if (isStatic()) {
                 // 静态方法：直接传入形参
-                result = mh.invokeWithArguments(args);
-            } else {
-                // 实例方法：将 obj 作为第一个参数
-                Object[] full = new Object[(args == null ? 0 : args.length) + 1];
-                full[0] = obj;
-                if (args != null && args.length > 0) {
-                    System.arraycopy(args, 0, full, 1, args.length);
+                switch (a.length) {
+                    case 0: return inv.invokeExact();
+                    case 1: return inv.invokeExact(a[0]);
+                    case 2: return inv.invokeExact(a[0], a[1]);
+                    case 3: return inv.invokeExact(a[0], a[1], a[2]);
+                    case 4: return inv.invokeExact(a[0], a[1], a[2], a[3]);
+                    default: return inv.invokeExact(a);
                 }
-                result = mh.invokeWithArguments(full);
             }
-            return result;
-        } catch (IllegalAccessException e) {
-            // 句柄创建阶段或访问受限
-            throw e;
+            // 实例方法：将 obj 作为第一个参数
+            Object o = obj;
+            switch (a.length) {
+                case 0: return inv.invokeExact(o);
+                case 1: return inv.invokeExact(o, a[0]);
+                case 2: return inv.invokeExact(o, a[0], a[1]);
+                case 3: return inv.invokeExact(o, a[0], a[1], a[2]);
+                case 4: return inv.invokeExact(o, a[0], a[1], a[2], a[3]);
+                default: return inv.invokeExact(o, a);
+            }
         } catch (Throwable t) {
             // 与 Method.invoke 行为保持一致：将目标方法抛出的异常包裹
             throw new InvocationTargetException(t);
         }
     }
 
+    /**
+     * 实参是否已按形参个数给出，最后一个实参为可变参数数组本身（或 null）
+     */
+    private boolean isFixedArityCall(Object[] args) {
+        int arity = parameters.size();
+        if (args.length != arity) {
+            return false;
+        }
+        Object last = args[arity - 1];
+        return last == null || method.getParameterTypes()[arity - 1].isInstance(last);
+    }
+
+    /**
+     * 可变参数的展开调用：多出的实参由可变参数句柄收集为数组，较慢，只在实参没有按数组给出时使用
+     */
+    private Object invokeVarargs(Object obj, Object[] args) throws InvocationTargetException, IllegalAccessException {
+        MethodHandle mh = handle();
+        Object[] full = args;
+        if (!isStatic()) {
+            full = new Object[args.length + 1];
+            full[0] = obj;
+            System.arraycopy(args, 0, full, 1, args.length);
+        }
+        try {
+            return mh.invokeWithArguments(full);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    private void checkArity(int count) {
+        if (count != parameters.size()) {
+            throw new IllegalArgumentException("方法【" + methodName + "】需要 " + parameters.size() + " 个参数，实际传入 " + count + " 个");
+        }
+    }
+
+    /**
+     * 固定签名的调用句柄：参数个数不超过 {@value #MAX_SPECIALIZED_ARITY} 时为 ([Object,] Object...)Object，
+     * 否则为 ([Object,] Object[])Object。可变参数方法按固定参数个数处理（最后一个参数传数组），展开调用见 {@link #invokeVarargs(Object, Object[])}
+     */
+    private MethodHandle invoker() throws IllegalAccessException {
+        MethodHandle inv = cachedInvoker;
+        if (inv == null) {
+            MethodHandle mh = handle().asFixedArity();
+            int arity = parameters.size();
+            int receiver = isStatic() ? 0 : 1;
+            inv = mh.asType(MethodType.genericMethodType(arity + receiver));
+            if (arity > MAX_SPECIALIZED_ARITY) {
+                inv = inv.asSpreader(Object[].class, arity);
+            }
+            cachedInvoker = inv;
+        }
+        return inv;
+    }
+
+    /**
+     * 获取（必要时创建）该方法的 MethodHandle。
+     * 不加锁：并发首次调用时可能各自创建句柄，但只有第一个 CAS 成功的会被发布，其余线程改用它
+     */
+    public MethodHandle handle() throws IllegalAccessException {
+        MethodHandle mh = cachedHandle;
+        if (mh == null) {
+            // 如需支持访问非 public 成员，可能需要在模块/包层面开放访问；
+            // 可在此处 method.setAccessible(true) 再 unreflect。
+            // method.setAccessible(true); // 可选：按需启用
+            mh = MethodHandles.lookup().unreflect(method);
+            MethodHandle published = (MethodHandle) CACHED_HANDLE.compareAndExchange(this, null, mh);
+            if (published != null) {
+                mh = published;
+            }
+        }
+        return mh;
+    }
+
+    /**
+     * 预先创建调用句柄（预热用），见 {@link xyz.ytora.ytool.classcache.ClassCache#prewarm(Class[])}
+     */
+    public void prepare() throws IllegalAccessException {
+        invoker();
+    }
+
     @SuppressWarnings("unchecked")
     public <A extends Annotation> A getAnnotation(Class<A> type) {
         return (A) annotations.get(type);
@@ -297,7 +423,7 @@ public class MethodMetadata {
     /**
      * 返回当前 方法 对于的 字段
      * <p>
-     *     判断当前方法是否属于某个字段的 getter 或者 setter 方法，如果是，就返回该字段
+     *     判断当前方法是否属于某个字段的 getter 或者 setter 方法，如果是，就返回该字段，否则返回 null
      * <p/>
      */
     public FieldMetadata toField() {
@@ -312,7 +438,7 @@ public class MethodMetadata {
         } else {
             fieldName = methodName;
         }
-        toField = classMetadata.getField(fieldName);
+        toField = classMetadata.findField(fieldName);
         return toField;
     }
 
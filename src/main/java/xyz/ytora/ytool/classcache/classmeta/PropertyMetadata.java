@@ -0,0 +1,471 @@
+package xyz.ytora.ytool.classcache.classmeta;
+
+import xyz.ytora.ytool.classcache.ClassCacheException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * created by yangtong on 2026/10/18 17:48:20
+ * <br/>
+ * 属性元数据：把同名的字段、getter、setter 配成一组，每个类只计算一次（见 {@link ClassMetadata#getProperties()}）。
+ * <p>
+ * getter 识别 getXxx()、返回 boolean/Boolean 的 isXxx() 以及 record 组件访问方法；setter 识别单参数的 setXxx(..)，
+ * 有重载时优先取参数类型与属性类型一致的那个。
+ * 读写通过 LambdaMetafactory 生成的函数对象完成，基本类型属性另有不装箱的 getInt/setInt 等方法；
+ * 无法生成时退回 MethodHandle。getter/setter 自身抛出的异常原样抛出
+ * </p>
+ */
+public class PropertyMetadata {
+
+    /**
+     * 属性名
+     */
+    private final String name;
+    /**
+     * 同名字段，可能为 null
+     */
+    private final FieldMetadata field;
+    /**
+     * 读方法，可能为 null
+     */
+    private final MethodMetadata getter;
+    /**
+     * 写方法，可能为 null
+     */
+    private final MethodMetadata setter;
+    /**
+     * 属性类型：优先取 getter 返回值类型，其次 setter 参数类型，最后字段类型
+     */
+    private final Class<?> type;
+    private final Type genericType;
+
+    /*
+     * 以下访问器首次使用时生成
+     */
+    private volatile Function<Object, Object> reader;
+    private volatile BiConsumer<Object, Object> writer;
+    private volatile ToIntFunction<Object> intReader;
+    private volatile ToLongFunction<Object> longReader;
+    private volatile ToDoubleFunction<Object> doubleReader;
+    private volatile ObjIntConsumer<Object> intWriter;
+    private volatile ObjLongConsumer<Object> longWriter;
+    private volatile ObjDoubleConsumer<Object> doubleWriter;
+
+    PropertyMetadata(String name, FieldMetadata field, MethodMetadata getter, MethodMetadata setter) {
+        this.name = name;
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        if (getter != null) {
+            this.type = getter.returnType();
+            this.genericType = getter.genericReturnType();
+        } else if (setter != null) {
+            this.type = setter.parameters().get(0).getType();
+            this.genericType = setter.genericParameterTypes()[0];
+        } else {
+            this.type = field.getType();
+            this.genericType = field.getSourceField().getGenericType();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FieldMetadata field() {
+        return field;
+    }
+
+    public MethodMetadata getter() {
+        return getter;
+    }
+
+    public MethodMetadata setter() {
+        return setter;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * 预先生成读写访问器（预热用），避免首次读写时的生成开销
+     */
+    public void prepare() {
+        if (getter != null && reader == null) {
+            reader = createReader();
+        }
+        if (setter != null && writer == null) {
+            writer = createWriter();
+        }
+    }
+
+    /* ============================ 读 ============================ */
+
+    /**
+     * 通过 getter 读取属性值（基本类型会装箱）
+     */
+    public Object get(Object bean) {
+        Function<Object, Object> r = reader;
+        if (r == null) {
+            r = reader = createReader();
+        }
+        return r.apply(bean);
+    }
+
+    /**
+     * 读取 int/short/byte/char 属性，不装箱
+     */
+    public int getInt(Object bean) {
+        ToIntFunction<Object> r = intReader;
+        if (r == null) {
+            r = intReader = createIntReader();
+        }
+        return r.applyAsInt(bean);
+    }
+
+    /**
+     * 读取 long 属性（int 等更窄的整数类型会被拓宽），不装箱
+     */
+    public long getLong(Object bean) {
+        ToLongFunction<Object> r = longReader;
+        if (r == null) {
+            r = longReader = createLongReader();
+        }
+        return r.applyAsLong(bean);
+    }
+
+    /**
+     * 读取 double/float 属性（整数类型会被拓宽），不装箱
+     */
+    public double getDouble(Object bean) {
+        ToDoubleFunction<Object> r = doubleReader;
+        if (r == null) {
+            r = doubleReader = createDoubleReader();
+        }
+        return r.applyAsDouble(bean);
+    }
+
+    /* ============================ 写 ============================ */
+
+    /**
+     * 通过 setter 写入属性值
+     */
+    public void set(Object bean, Object value) {
+        BiConsumer<Object, Object> w = writer;
+        if (w == null) {
+            w = writer = createWriter();
+        }
+        w.accept(bean, value);
+    }
+
+    /**
+     * 写入 int 属性（setter 参数为 int/long/float/double 时可用），不装箱
+     */
+    public void setInt(Object bean, int value) {
+        ObjIntConsumer<Object> w = intWriter;
+        if (w == null) {
+            w = intWriter = createIntWriter();
+        }
+        w.accept(bean, value);
+    }
+
+    /**
+     * 写入 long 属性（setter 参数为 long/float/double 时可用），不装箱
+     */
+    public void setLong(Object bean, long value) {
+        ObjLongConsumer<Object> w = longWriter;
+        if (w == null) {
+            w = longWriter = createLongWriter();
+        }
+        w.accept(bean, value);
+    }
+
+    /**
+     * 写入 double 属性，不装箱
+     */
+    public void setDouble(Object bean, double value) {
+        ObjDoubleConsumer<Object> w = doubleWriter;
+        if (w == null) {
+            w = doubleWriter = createDoubleWriter();
+        }
+        w.accept(bean, value);
+    }
+
+    /* ============================ 访问器生成 ============================ */
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> createReader() {
+        Method m = requireGetter();
+        Object fn = metafactory(m, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class),
+                MethodType.methodType(wrapper(m.getReturnType()), m.getDeclaringClass()));
+        if (fn != null) {
+            return (Function<Object, Object>) fn;
+        }
+        MethodHandle mh = handle(getter).asType(MethodType.methodType(Object.class, Object.class));
+        return bean -> {
+            try {
+                return mh.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToIntFunction<Object> createIntReader() {
+        Method m = requireGetter();
+        Class<?> t = m.getReturnType();
+        if (t != int.class && t != short.class && t != byte.class && t != char.class) {
+            throw new ClassCacheException("属性【" + name + "】的类型为 " + t.getName() + "，不能按 int 读取");
+        }
+        Object fn = metafactory(m, ToIntFunction.class, "applyAsInt",
+                MethodType.methodType(int.class, Object.class),
+                MethodType.methodType(int.class, m.getDeclaringClass()));
+        if (fn != null) {
+            return (ToIntFunction<Object>) fn;
+        }
+        MethodHandle mh = handle(getter).asType(MethodType.methodType(int.class, Object.class));
+        return bean -> {
+            try {
+                return (int) mh.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToLongFunction<Object> createLongReader() {
+        Method m = requireGetter();
+        Class<?> t = m.getReturnType();
+        if (t != long.class && t != int.class && t != short.class && t != byte.class && t != char.class) {
+            throw new ClassCacheException("属性【" + name + "】的类型为 " + t.getName() + "，不能按 long 读取");
+        }
+        Object fn = metafactory(m, ToLongFunction.class, "applyAsLong",
+                MethodType.methodType(long.class, Object.class),
+                MethodType.methodType(long.class, m.getDeclaringClass()));
+        if (fn != null) {
+            return (ToLongFunction<Object>) fn;
+        }
+        MethodHandle mh = handle(getter).asType(MethodType.methodType(long.class, Object.class));
+        return bean -> {
+            try {
+                return (long) mh.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ToDoubleFunction<Object> createDoubleReader() {
+        Method m = requireGetter();
+        Class<?> t = m.getReturnType();
+        if (!t.isPrimitive() || t == boolean.class || t == void.class) {
+            throw new ClassCacheException("属性【" + name + "】的类型为 " + t.getName() + "，不能按 double 读取");
+        }
+        Object fn = metafactory(m, ToDoubleFunction.class, "applyAsDouble",
+                MethodType.methodType(double.class, Object.class),
+                MethodType.methodType(double.class, m.getDeclaringClass()));
+        if (fn != null) {
+            return (ToDoubleFunction<Object>) fn;
+        }
+        MethodHandle mh = handle(getter).asType(MethodType.methodType(double.class, Object.class));
+        return bean -> {
+            try {
+                return (double) mh.invokeExact(bean);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object> createWriter() {
+        Method m = requireSetter();
+        Class<?> param = m.getParameterTypes()[0];
+        Object fn = metafactory(m, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class),
+                MethodType.methodType(void.class, m.getDeclaringClass(), wrapper(param)));
+        if (fn != null) {
+            return (BiConsumer<Object, Object>) fn;
+        }
+        MethodHandle mh = handle(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                mh.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjIntConsumer<Object> createIntWriter() {
+        Method m = requirePrimitiveSetter(int.class, "int");
+        Object fn = metafactory(m, ObjIntConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, int.class),
+                MethodType.methodType(void.class, m.getDeclaringClass(), int.class));
+        if (fn != null) {
+            return (ObjIntConsumer<Object>) fn;
+        }
+        MethodHandle mh = handle(setter).asType(MethodType.methodType(void.class, Object.class, int.class));
+        return (bean, value) -> {
+            try {
+                mh.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjLongConsumer<Object> createLongWriter() {
+        Method m = requirePrimitiveSetter(long.class, "long");
+        Object fn = metafactory(m, ObjLongConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, long.class),
+                MethodType.methodType(void.class, m.getDeclaringClass(), long.class));
+        if (fn != null) {
+            return (ObjLongConsumer<Object>) fn;
+        }
+        MethodHandle mh = handle(setter).asType(MethodType.methodType(void.class, Object.class, long.class));
+        return (bean, value) -> {
+            try {
+                mh.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObjDoubleConsumer<Object> createDoubleWriter() {
+        Method m = requirePrimitiveSetter(double.class, "double");
+        Object fn = metafactory(m, ObjDoubleConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, double.class),
+                MethodType.methodType(void.class, m.getDeclaringClass(), double.class));
+        if (fn != null) {
+            return (ObjDoubleConsumer<Object>) fn;
+        }
+        MethodHandle mh = handle(setter).asType(MethodType.methodType(void.class, Object.class, double.class));
+        return (bean, value) -> {
+            try {
+                mh.invokeExact(bean, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private Method requireGetter() {
+        if (getter == null) {
+            throw new ClassCacheException("属性【" + name + "】没有 getter 方法");
+        }
+        return getter.getOriginMethod();
+    }
+
+    private Method requireSetter() {
+        if (setter == null) {
+            throw new ClassCacheException("属性【" + name + "】没有 setter 方法");
+        }
+        return setter.getOriginMethod();
+    }
+
+    /**
+     * 要求 setter 参数可由 valueType 拓宽得到（如 setLong 可写入 long/float/double 参数）
+     */
+    private Method requirePrimitiveSetter(Class<?> valueType, String typeName) {
+        Method m = requireSetter();
+        Class<?> param = m.getParameterTypes()[0];
+        if (!isWidening(valueType, param)) {
+            throw new ClassCacheException("属性【" + name + "】的类型为 " + param.getName() + "，不能按 " + typeName + " 写入");
+        }
+        return m;
+    }
+
+    private static Class<?> wrapper(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        if (from == int.class) {
+            return to == long.class || to == float.class || to == double.class;
+        }
+        if (from == long.class) {
+            return to == float.class || to == double.class;
+        }
+        return false;
+    }
+
+    /**
+     * 用 LambdaMetafactory 把方法绑定为函数式接口实例；目标类不允许私有访问等情况下返回 null
+     */
+    private static Object metafactory(Method method, Class<?> fnType, String fnName, MethodType erased, MethodType instantiated) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle impl = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, fnName, MethodType.methodType(fnType),
+                    erased, impl, instantiated);
+            return site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle handle(MethodMetadata method) {
+        try {
+            return method.handle();
+        } catch (IllegalAccessException e) {
+            throw new ClassCacheException("无法访问方法: " + method.getName(), e);
+        }
+    }
+
+    /**
+     * 非受检异常原样抛出，受检异常包装
+     */
+    private RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException re) {
+            throw re;
+        }
+        if (t instanceof Error err) {
+            throw err;
+        }
+        return new ClassCacheException("访问属性【" + name + "】失败: " + t.getMessage(), t);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyMetadata{" + name + ": " + type.getName() + "}";
+    }
+}
@@ -0,0 +1,68 @@
+package xyz.ytora.ytool.convert;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * created by yangtong on 2026/10/18 18:45:30
+ * <br/>
+ * 多个转换器首尾相接组成的转换器，例如 A -> B -> C。
+ * 源值为 null 时返回 null；非 null 的中间值被转换为 null 说明这一步转换失败，抛出 {@link ConverterException}，
+ * 而不是把 null 当作转换结果
+ */
+public class ComposedConverter implements Converter<Object, Object> {
+
+    private final Converter<Object, Object>[] chain;
+
+    @SuppressWarnings("unchecked")
+    public ComposedConverter(List<? extends Converter<?, ?>> chain) {
+        if (chain == null || chain.isEmpty()) {
+            throw new ConverterException("组合转换器至少需要一个转换器");
+        }
+        this.chain = (Converter<Object, Object>[]) chain.toArray(new Converter<?, ?>[0]);
+    }
+
+    @Override
+    public Object convert(Object source) {
+        if (source == null) {
+            return null;
+        }
+        Object value = source;
+        for (Converter<Object, Object> converter : chain) {
+            Object next = converter.convert(value);
+            if (next == null) {
+                throw new ConverterException("组合转换在【" + converter + "】处失败：" + value.getClass().getName() + " 转换结果为 null");
+            }
+            value = next;
+        }
+        return value;
+    }
+
+    @Override
+    public Object reverseConvert(Object source) {
+        if (source == null) {
+            return null;
+        }
+        Object value = source;
+        for (int i = chain.length - 1; i >= 0; i--) {
+            Object next = chain[i].reverseConvert(value);
+            if (next == null) {
+                throw new ConverterException("组合转换在【" + chain[i] + "】处失败：" + value.getClass().getName() + " 转换结果为 null");
+            }
+            value = next;
+        }
+        return value;
+    }
+
+    /**
+     * 经过的转换器个数
+     */
+    public int hops() {
+        return chain.length;
+    }
+
+    @Override
+    public String toString() {
+        return "ComposedConverter" + Arrays.toString(chain);
+    }
+}
@@ -2,18 +2,18 @@ package xyz.ytora.ytool.convert;
 
 import xyz.ytora.ytool.convert.support.DefaultConversionService;
 
+import java.util.List;
+
 /**
  * created by yangtong on 2025/4/4 下午5:58
  * <类型转换工具类/>
  */
 public class Converts {
 
-    private static final DefaultConversionService conversionService;
-
-    static {
-        String basePackage = "org.ytor.common.util.convert.converters";
-        conversionService = DefaultConversionService.init(basePackage);
-    }
+    /**
+     * 内置转换器登记在 META-INF/services/xyz.ytora.ytool.convert.Converter 中
+     */
+    private static final DefaultConversionService conversionService = DefaultConversionService.load();
 
     public static DefaultConversionService get() {
         return conversionService;
@@ -42,4 +42,53 @@ public class Converts {
         }
     }
 
+    /**
+     * 转换为 int，无法转换时返回默认值（字符串解析不抛异常）
+     */
+    public static int convertToInt(Object source, int defaultValue) {
+        return conversionService.convertToInt(source, defaultValue);
+    }
+
+    /**
+     * 转换为 long，无法转换时返回默认值（字符串解析不抛异常）
+     */
+    public static long convertToLong(Object source, long defaultValue) {
+        return conversionService.convertToLong(source, defaultValue);
+    }
+
+    /**
+     * 转换为 double，无法转换时返回默认值（字符串解析不抛异常）
+     */
+    public static double convertToDouble(Object source, double defaultValue) {
+        return conversionService.convertToDouble(source, defaultValue);
+    }
+
+    /**
+     * 批量转换为目标类型，转换器按元素类型只查找一次
+     */
+    public static <T> List<T> convertAll(List<?> sources, Class<T> targetType) {
+        return conversionService.convertAll(sources, targetType);
+    }
+
+    /**
+     * 批量转换为 int 数组，无法转换的元素取默认值
+     */
+    public static int[] toIntArray(String[] values, int defaultValue) {
+        return conversionService.toIntArray(values, defaultValue);
+    }
+
+    /**
+     * 批量转换为 long 数组，无法转换的元素取默认值
+     */
+    public static long[] toLongArray(String[] values, long defaultValue) {
+        return conversionService.toLongArray(values, defaultValue);
+    }
+
+    /**
+     * 批量转换为 double 数组，无法转换的元素取默认值
+     */
+    public static double[] toDoubleArray(String[] values, double defaultValue) {
+        return conversionService.toDoubleArray(values, defaultValue);
+    }
+
 }
@@ -1,14 +1,19 @@
 package xyz.ytora.ytool.convert.support;
 
 import xyz.ytora.ytool.convert.*;
-import xyz.ytora.ytool.number.Numbers;
+import xyz.ytora.ytool.invoke.Reflects;
+import xyz.ytora.ytool.number.NumberParser;
 
-import java.io.File;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
@@ -17,58 +22,85 @@ import java.util.function.Supplier;
  * 默认的类型转换器
  */
 public class DefaultConversionService implements ConverterRegistry, ConversionService {
-    private final Map<TypePair, Converter<?, ?>> converterMap = new ConcurrentHashMap<>();
+    private static final Object NO_CONVERTER = new Object();
 
+    /**
+     * 组合转换时最多经过的转换器个数
+     */
+    private static final int MAX_HOPS = 4;
+
+    private final Map<TypePair, Registration> converterMap = new ConcurrentHashMap<>();
+    /**
+     * (源类型, 目标类型) -> 选中的转换器，找不到时为 NO_CONVERTER
+     */
+    private final Map<TypePair, Object> resolved = new ConcurrentHashMap<>();
+    /**
+     * 每次注册转换器时递增
+     */
+    private volatile long version;
+
+    /**
+     * 用当前类的类加载器加载 META-INF/services/xyz.ytora.ytool.convert.Converter 中声明的转换器
+     */
+    public static DefaultConversionService load() {
+        return load(DefaultConversionService.class.getClassLoader());
+    }
+
+    /**
+     * 原先扫描 basePackage 目录下的转换器类，打成 jar 后无法使用。现在等同于 {@link #load()}，basePackage 不再使用，
+     * 自定义转换器需要登记在 META-INF/services/xyz.ytora.ytool.convert.Converter 中
+     *
+     * @deprecated 使用 {@link #load()} 或 {@link #load(ClassLoader)}
+     */
+    @Deprecated
     public static DefaultConversionService init(String basePackage) {
-        return init(basePackage, () -> {
-            String path = basePackage.replace('.', '/');
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            URL resource = classLoader.getResource(path);
-            if (resource == null) {
-                throw new ConverterException("未找到包路径：" + path);
-            }
-            return classLoader.getResource(path);
-        });
+        return load();
     }
 
+    /**
+     * 等同于 {@link #load()}，basePackage 和 supplier 不再使用，见 {@link #init(String)}
+     *
+     * @deprecated 使用 {@link #load()} 或 {@link #load(ClassLoader)}
+     */
+    @Deprecated
     public static DefaultConversionService init(String basePackage, Supplier<URL> supplier) {
+        return load();
+    }
+
+    /**
+     * 通过 {@link ServiceLoader} 加载转换器：只读取服务清单并加载实现类以确定其源类型和目标类型，
+     * 实例在第一次用于转换时才创建。按清单中的顺序注册，该顺序也是同等具体的转换器之间的优先级
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static DefaultConversionService load(ClassLoader classLoader) {
         DefaultConversionService service = new DefaultConversionService();
-        URL resource = supplier.get();
-
-        File directory = new File(resource.getFile());
-        if (!directory.exists()) {
-            throw new ConverterException("目录不存在：" + directory.getAbsolutePath());
-        }
-
-        for (File file : Objects.requireNonNull(directory.listFiles())) {
-            try {
-                String className = basePackage + "." + file.getName().replace(".class", "");
-                Class<?> clazz = Class.forName(className);
-
-                // 必须是 Converter 的实现类，排除接口本身
-                if (Converter.class.isAssignableFrom(clazz) && !clazz.isInterface()) {
-
-                    // 尝试推断泛型类型
-                    Type[] genericInterfaces = clazz.getGenericInterfaces();
-                    for (Type type : genericInterfaces) {
-                        if (type instanceof ParameterizedType pt) {
-                            if (pt.getRawType() == Converter.class) {
-                                Class<?> sourceType = (Class<?>) pt.getActualTypeArguments()[0];
-                                Class<?> targetType = (Class<?>) pt.getActualTypeArguments()[1];
-                                // 实例化并注册
-                                Converter converter = (Converter) clazz.getDeclaredConstructor().newInstance();
-                                service.addConverter(sourceType, targetType, converter);
-                                System.out.println("注册转换器：" + clazz.getSimpleName());
-                            }
-                        }
+        ServiceLoader<Converter> loader = ServiceLoader.load(Converter.class, classLoader);
+        loader.stream().forEach(provider -> {
+            Class<?>[] types = typeArguments(provider.type());
+            if (types == null) {
+                throw new ConverterException("无法确定转换器的源类型和目标类型：" + provider.type().getName());
+            }
+            service.addConverter((Class) types[0], (Class) types[1], new LazyConverter(provider));
+        });
+        return service;
+    }
+
+    /**
+     * 从实现类（及其父类）声明的 Converter&lt;S, T&gt; 中取出 S 和 T
+     */
+    private static Class<?>[] typeArguments(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Type itf : c.getGenericInterfaces()) {
+                if (itf instanceof ParameterizedType pt && pt.getRawType() == Converter.class) {
+                    Type[] args = pt.getActualTypeArguments();
+                    if (args[0] instanceof Class<?> source && args[1] instanceof Class<?> target) {
+                        return new Class<?>[]{source, target};
                     }
+                    return null;
                 }
-            } catch (Exception e) {
-                throw new ConverterException("加载类失败：" + file.getName());
             }
         }
-
-        return service;
+        return null;
     }
 
     /**
@@ -82,30 +114,177 @@ public class DefaultConversionService implements ConverterRegistry, ConversionSe
             return null;
         }
 
-        // 如果类型已经匹配，直接返回
-        if (targetType.isInstance(source)) {
+        // 基本类型按包装类型处理，如果类型已经匹配，直接返回
+        Class<?> target = Reflects.primitiveToWrapper(targetType);
+        if (target.isInstance(source)) {
             return (T) source;
         }
 
         // 数字类型直接在这里快速处理
-        if (source instanceof Number && Number.class.isAssignableFrom(targetType)
-                || targetType.isPrimitive() && Numbers.isPrimitive(targetType)) {
-            return (T) convertNumber((Number) source, targetType);
+        if (source instanceof Number number && isNumberTarget(target)) {
+            return (T) convertNumber(number, target);
         }
 
         //使用注册的类型转换器进行转换
         Class<?> sourceType = source.getClass();
+        Converter<Object, Object> converter = getConverter(sourceType, target);
+        if (converter == null) {
+            // 转换失败
+            throw new ClassCastException("无法进行类型转换： " + sourceType.getName() + " -> " + targetType.getName());
+        }
+        return (T) converter.convert(source);
+    }
+
+    /* ====================== 基本类型目标 ====================== */
+
+    /**
+     * 转换为 int：数字直接取值，字符串不抛异常地解析，其余类型使用注册的转换器；无法转换时返回 defaultValue
+     */
+    public int convertToInt(Object source, int defaultValue) {
+        if (source instanceof Number number) {
+            return number.intValue();
+        }
+        if (source instanceof CharSequence cs) {
+            return NumberParser.parseInt(cs, defaultValue);
+        }
+        Number number = tryConvertToNumber(source, Integer.class);
+        return number == null ? defaultValue : number.intValue();
+    }
+
+    /**
+     * 转换为 long，规则同 {@link #convertToInt(Object, int)}
+     */
+    public long convertToLong(Object source, long defaultValue) {
+        if (source instanceof Number number) {
+            return number.longValue();
+        }
+        if (source instanceof CharSequence cs) {
+            return NumberParser.parseLong(cs, defaultValue);
+        }
+        Number number = tryConvertToNumber(source, Long.class);
+        return number == null ? defaultValue : number.longValue();
+    }
+
+    /**
+     * 转换为 double，规则同 {@link #convertToInt(Object, int)}
+     */
+    public double convertToDouble(Object source, double defaultValue) {
+        if (source instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (source instanceof CharSequence cs) {
+            return NumberParser.parseDouble(cs, defaultValue);
+        }
+        Number number = tryConvertToNumber(source, Double.class);
+        return number == null ? defaultValue : number.doubleValue();
+    }
+
+    private Number tryConvertToNumber(Object source, Class<? extends Number> targetType) {
+        if (source == null) {
+            return null;
+        }
+        Converter<Object, Object> converter = getConverter(source.getClass(), targetType);
+        if (converter == null) {
+            return null;
+        }
+        try {
+            return converter.convert(source) instanceof Number number ? number : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /* ====================== 批量转换 ====================== */
 
-        for (TypePair typePair : converterMap.keySet()) {
-            if (typePair.getSourceType().isAssignableFrom(sourceType) &&
-                    typePair.getTargetType().isAssignableFrom(targetType)) {
-                Converter<Object, T> converter = (Converter<Object, T>) converterMap.get(typePair);
-                return converter.convert(source);
+    /**
+     * 批量转换，相邻元素类型相同时复用同一个转换器，不重复查找；null 元素转换为 null
+     *
+     * @throws ClassCastException 存在无法转换的元素时
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> convertAll(List<?> sources, Class<T> targetType) {
+        Class<?> target = Reflects.primitiveToWrapper(targetType);
+        boolean numberTarget = isNumberTarget(target);
+        List<T> result = new ArrayList<>(sources.size());
+        Class<?> lastType = null;
+        Converter<Object, Object> converter = null;
+        for (Object source : sources) {
+            if (source == null || target.isInstance(source)) {
+                result.add((T) source);
+                continue;
+            }
+            if (numberTarget && source instanceof Number number) {
+                result.add((T) convertNumber(number, target));
+                continue;
+            }
+            Class<?> sourceType = source.getClass();
+            if (sourceType != lastType) {
+                converter = getConverter(sourceType, target);
+                lastType = sourceType;
             }
+            if (converter == null) {
+                throw new ClassCastException("无法进行类型转换： " + sourceType.getName() + " -> " + targetType.getName());
+            }
+            result.add((T) converter.convert(source));
         }
+        return result;
+    }
 
-        // 转换失败
-        throw new ClassCastException("无法进行类型转换： " + sourceType.getName() + " -> " + targetType.getName());
+    /**
+     * 批量转换为 int 数组，无法转换的元素取 defaultValue
+     */
+    public int[] toIntArray(Object[] sources, int defaultValue) {
+        int[] result = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            Object source = sources[i];
+            result[i] = source instanceof CharSequence cs ? NumberParser.parseInt(cs, defaultValue) : convertToInt(source, defaultValue);
+        }
+        return result;
+    }
+
+    /**
+     * 批量转换为 long 数组，无法转换的元素取 defaultValue
+     */
+    public long[] toLongArray(Object[] sources, long defaultValue) {
+        long[] result = new long[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            Object source = sources[i];
+            result[i] = source instanceof CharSequence cs ? NumberParser.parseLong(cs, defaultValue) : convertToLong(source, defaultValue);
+        }
+        return result;
+    }
+
+    /**
+     * 批量转换为 double 数组，无法转换的元素取 defaultValue
+     */
+    public double[] toDoubleArray(Object[] sources, double defaultValue) {
+        double[] result = new double[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            Object source = sources[i];
+            result[i] = source instanceof CharSequence cs ? NumberParser.parseDouble(cs, defaultValue) : convertToDouble(source, defaultValue);
+        }
+        return result;
+    }
+
+    /**
+     * 查找把 sourceType 转换为 targetType 的转换器，没有直接注册的转换器时会组合多个转换器，都没有时返回 null。
+     * 结果（包括找不到的情况）按类型对缓存，注册新的转换器后失效
+     */
+    @SuppressWarnings("unchecked")
+    public Converter<Object, Object> getConverter(Class<?> sourceType, Class<?> targetType) {
+        TypePair key = new TypePair(sourceType, Reflects.primitiveToWrapper(targetType));
+        Object hit = resolved.get(key);
+        if (hit == null) {
+            long v = version;
+            Converter<?, ?> found = resolve(key.sourceType(), key.targetType());
+            hit = found == null ? NO_CONVERTER : found;
+            resolved.putIfAbsent(key, hit);
+            // 解析期间有新的转换器注册，刚放入的可能是旧结果，撤回
+            if (v != version) {
+                resolved.remove(key, hit);
+            }
+        }
+        return hit == NO_CONVERTER ? null : (Converter<Object, Object>) hit;
     }
 
     /**
@@ -113,8 +292,147 @@ public class DefaultConversionService implements ConverterRegistry, ConversionSe
      */
     @Override
     public <S, T> void addConverter(Class<S> sourceType, Class<T> targetType, Converter<S, T> converter) {
-        converterMap.put(new TypePair(sourceType, targetType), converter);
-        converterMap.put(new TypePair(targetType, sourceType), new ReverseConverter<>(converter));
+        synchronized (converterMap) {
+            long order = converterMap.size();
+            converterMap.put(new TypePair(sourceType, targetType), new Registration(converter, order, false));
+            // 反向转换器排在同一次注册的正向转换器之后
+            converterMap.put(new TypePair(targetType, sourceType), new Registration(new ReverseConverter<>(converter), order + 1, true));
+            version++;
+            resolved.clear();
+        }
+    }
+
+    /**
+     * 把已注册的转换器看作类型图上的边（源类型 -> 目标类型），找出代价最小的转换路径：
+     * 1. 经过的转换器越少越优先；
+     * 2. 其次每一步的实际类型与注册的源类型在继承层级上越近越优先；
+     * 3. 再次最终类型与所需目标类型越近越优先；
+     * 4. 仍相同时先注册的优先。
+     * 解析字符串的转换器（源类型为 String）不参与组合，只能单独使用：它们只接受特定格式的字符串，
+     * 放在中间会让 String -> Integer -> Boolean 这类路径把 "true" 当成数字解析，放在其他类型格式化为 String 之后
+     * 会让 Long -> String -> LocalDate 这类路径解析失败得到 null；
+     * 反向转换器除第一步外只能作为最后一步。
+     * 只需一步时即为最具体的单个转换器，多步时组合为 {@link ComposedConverter}。结果与 Map 的遍历顺序无关
+     */
+    private Converter<?, ?> resolve(Class<?> sourceType, Class<?> targetType) {
+        Registration exact = converterMap.get(new TypePair(sourceType, targetType));
+        if (exact != null) {
+            return exact.converter();
+        }
+        List<Map.Entry<TypePair, Registration>> edges = new ArrayList<>(converterMap.entrySet());
+
+        // Dijkstra：按代价从小到大展开，第一个出队的终点即为最优路径
+        PriorityQueue<Path> queue = new PriorityQueue<>();
+        Map<Class<?>, Path> settled = new HashMap<>();
+        queue.add(new Path(sourceType, null, null, 0, 0, 0, 0, false, false));
+        while (!queue.isEmpty()) {
+            Path path = queue.poll();
+            if (path.done()) {
+                return path.compose();
+            }
+            // 只能作为最后一步的节点不再展开，也不占用该类型，其他路径仍可经过该类型继续转换
+            if (!path.last() && settled.putIfAbsent(path.type(), path) != null) {
+                continue;
+            }
+            // 当前类型已满足目标，加一条到终点的虚拟边
+            int td = distance(path.type(), targetType);
+            if (td >= 0 && path.hops() > 0) {
+                queue.add(new Path(path.type(), path, null, path.hops(), path.sourceDistance(),
+                        path.targetDistance() + td, path.order(), true, true));
+            }
+            if (path.last() || path.hops() == MAX_HOPS) {
+                continue;
+            }
+            for (Map.Entry<TypePair, Registration> e : edges) {
+                TypePair pair = e.getKey();
+                int sd = distance(path.type(), pair.getSourceType());
+                if (sd < 0 || settled.containsKey(pair.getTargetType())) continue;
+                boolean parser = pair.getSourceType() == String.class;
+                if (parser && path.hops() > 0) continue;
+                Registration r = e.getValue();
+                boolean last = parser || (r.reverse() && path.hops() > 0);
+                queue.add(new Path(pair.getTargetType(), path, r, path.hops() + 1, path.sourceDistance() + sd,
+                        path.targetDistance(), path.order() + r.order(), false, last));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 转换路径上的一个节点
+     *
+     * @param type           经过若干转换后的类型
+     * @param previous       上一个节点
+     * @param via            到达该节点使用的转换器，起点为 null
+     * @param hops           已经过的转换器个数
+     * @param sourceDistance 每一步的实际类型与注册源类型的继承距离之和
+     * @param targetDistance 最终类型与所需目标类型的继承距离
+     * @param order          所经转换器的注册顺序之和
+     * @param done           是否为终点
+     * @param last           到达该节点的转换器是否只能作为最后一步
+     */
+    private record Path(Class<?> type, Path previous, Registration via, int hops, long sourceDistance,
+                        long targetDistance, long order, boolean done, boolean last) implements Comparable<Path> {
+
+        @Override
+        public int compareTo(Path o) {
+            int c = Integer.compare(hops, o.hops);
+            if (c == 0) c = Long.compare(sourceDistance, o.sourceDistance);
+            if (c == 0) c = Long.compare(targetDistance, o.targetDistance);
+            if (c == 0) c = Long.compare(order, o.order);
+            // 代价相同时先处理终点
+            if (c == 0) c = Boolean.compare(o.done, done);
+            return c;
+        }
+
+        Converter<?, ?> compose() {
+            LinkedList<Converter<?, ?>> chain = new LinkedList<>();
+            for (Path p = this; p != null; p = p.previous) {
+                if (p.via != null) {
+                    chain.addFirst(p.via.converter());
+                }
+            }
+            return chain.size() == 1 ? chain.getFirst() : new ComposedConverter(chain);
+        }
+    }
+
+    /**
+     * from 到其父类型 to 的继承距离（父类或接口每上一层加一），不是子类型时返回 -1
+     */
+    static int distance(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return 0;
+        }
+        if (!to.isAssignableFrom(from)) {
+            return -1;
+        }
+        // Object 比任何接口都远
+        if (to == Object.class) {
+            return Integer.MAX_VALUE - 1;
+        }
+        int best = Integer.MAX_VALUE;
+        Class<?> superclass = from.getSuperclass();
+        if (superclass != null) {
+            int d = distance(superclass, to);
+            if (d >= 0 && d < best) best = d;
+        }
+        for (Class<?> itf : from.getInterfaces()) {
+            int d = distance(itf, to);
+            if (d >= 0 && d < best) best = d;
+        }
+        return best == Integer.MAX_VALUE ? -1 : best + 1;
+    }
+
+    private static boolean isNumberTarget(Class<?> target) {
+        return target == Integer.class || target == Long.class || target == Double.class || target == Float.class
+                || target == Short.class || target == Byte.class
+                || target == java.math.BigInteger.class || target == java.math.BigDecimal.class;
+    }
+
+    /**
+     * 已注册的转换器及其注册顺序，reverse 表示由注册的转换器自动生成的反向转换器
+     */
+    private record Registration(Converter<?, ?> converter, long order, boolean reverse) {
     }
 
     /**
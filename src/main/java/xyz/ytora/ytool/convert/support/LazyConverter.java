@@ -0,0 +1,48 @@
+package xyz.ytora.ytool.convert.support;
+
+import xyz.ytora.ytool.convert.Converter;
+
+import java.util.ServiceLoader;
+
+/**
+ * created by yangtong on 2026/10/18 19:05:12
+ * <br/>
+ * 延迟实例化的转换器：注册时只加载实现类以读取泛型参数，第一次转换时才创建实例
+ */
+final class LazyConverter<S, T> implements Converter<S, T> {
+
+    private final ServiceLoader.Provider<Converter<S, T>> provider;
+    private volatile Converter<S, T> delegate;
+
+    LazyConverter(ServiceLoader.Provider<Converter<S, T>> provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public T convert(S source) {
+        return delegate().convert(source);
+    }
+
+    @Override
+    public S reverseConvert(T source) {
+        return delegate().reverseConvert(source);
+    }
+
+    private Converter<S, T> delegate() {
+        Converter<S, T> d = delegate;
+        if (d == null) {
+            synchronized (this) {
+                d = delegate;
+                if (d == null) {
+                    d = delegate = provider.get();
+                }
+            }
+        }
+        return d;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyConverter[" + provider.type().getName() + "]";
+    }
+}
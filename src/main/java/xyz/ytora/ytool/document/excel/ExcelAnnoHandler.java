@@ -1,10 +1,11 @@
 package xyz.ytora.ytool.document.excel;
 
 import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
 import xyz.ytora.ytool.convert.Converts;
 import xyz.ytora.ytool.date.Dates;
+import xyz.ytora.ytool.document.DocException;
 import xyz.ytora.ytool.document.excel.factory.ExcelFieldHandlerFactory;
-import xyz.ytora.ytool.invoke.Reflects;
 import xyz.ytora.ytool.str.Strs;
 
 import java.lang.reflect.Field;
@@ -23,6 +24,11 @@ public class ExcelAnnoHandler {
      */
     private final Field field;
 
+    /**
+     * 该字段对应的属性（通过其setter赋值），没有getter/setter时为 null
+     */
+    private final PropertyMetadata property;
+
     /**
      * 该字段对应的Excel注解
      */
@@ -35,6 +41,7 @@ public class ExcelAnnoHandler {
 
     public ExcelAnnoHandler(FieldMetadata field, ExcelFieldHandlerFactory handlerFactory) {
         this.field = field.getSourceField();
+        this.property = field.property();
         this.excel = field.getAnnotation(Excel.class);
         this.handlerFactory = handlerFactory;
     }
@@ -54,7 +61,9 @@ public class ExcelAnnoHandler {
             return;
         }
         //通过setter方法给targetObj对象的字段赋值
-        String setter = "set" + Strs.firstCapitalize(field.getName());
+        if (property == null || !property.isWritable()) {
+            throw new DocException("字段没有setter方法: " + field.getName());
+        }
 
         Object finalValue;
         //如果是日期Date类型
@@ -74,9 +83,9 @@ public class ExcelAnnoHandler {
         }
         //判断finalValue能否赋值给字段，如果不一致则调用类型转换器尝试转换
         if (field.getType().isAssignableFrom(finalValue.getClass())) {
-            Reflects.invokeMethod(targetObj, setter, finalValue);
+            property.set(targetObj, finalValue);
         } else {
-            Reflects.invokeMethod(targetObj, setter, Converts.convert(finalValue, field.getType()));
+            property.set(targetObj, Converts.convert(finalValue, field.getType()));
         }
     }
 
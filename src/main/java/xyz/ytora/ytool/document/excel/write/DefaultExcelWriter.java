@@ -7,14 +7,14 @@ import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
 import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
 import xyz.ytora.ytool.document.DocException;
 import xyz.ytora.ytool.document.excel.*;
-import xyz.ytora.ytool.invoke.Reflects;
 import xyz.ytora.ytool.str.Strs;
 
 import java.io.BufferedOutputStream;
 import java.io.OutputStream;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -56,6 +56,16 @@ public class DefaultExcelWriter<T> implements IExcelWriter<T> {
                 .sorted(Comparator.comparingInt(f -> f.getAnnotation(Excel.class).index()))
                 .toList();
 
+        //每一列通过对应属性的getter取值
+        List<PropertyMetadata> properties = new ArrayList<>(fieldMetadataList.size());
+        for (FieldMetadata fm : fieldMetadataList) {
+            PropertyMetadata property = fm.property();
+            if (property == null || !property.isReadable()) {
+                throw new DocException("字段没有getter方法: " + fm.getName());
+            }
+            properties.add(property);
+        }
+
         try (Workbook workbook = WorkbookGen.gen(version)) {
             Sheet sheet = workbook.createSheet(sheetName);
 
@@ -107,10 +117,10 @@ public class DefaultExcelWriter<T> implements IExcelWriter<T> {
                 for (int j = 0; j < fieldMetadataList.size(); j++) {
                     FieldMetadata fm = fieldMetadataList.get(j);
                     //通过getter方法获取该字段的值
-                    String getter = "get" + Strs.firstCapitalize(fm.getName());
+                    PropertyMetadata property = properties.get(j);
 
                     try {
-                        Object value = Reflects.invokeMethod(rowData, getter);
+                        Object value = property.get(rowData);
                         Cell cell = dataRow.createCell(j);
                         ExcelCell excelCell = new ExcelCell()
                                 .setCell(cell)
@@ -118,7 +128,7 @@ public class DefaultExcelWriter<T> implements IExcelWriter<T> {
                                 .setWorkbook(workbook);
                         excelCell.setCellStyle(bodyStyle);
                         Cells.writeToCell(excelCell);
-                    } catch (InvocationTargetException | IllegalAccessException e) {
+                    } catch (RuntimeException e) {
                         throw new DocException("字段获取失败: " + fm.getName(), e);
                     }
                 }
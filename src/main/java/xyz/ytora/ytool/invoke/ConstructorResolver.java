@@ -0,0 +1,238 @@
+package xyz.ytora.ytool.invoke;
+
+import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.classcache.classmeta.MemberKey;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * created by yangtong on 2026/10/18 20:05:36
+ * <br/>
+ * 按实参类型挑选构造器，见 {@link Reflects#newInstance(Class, Object...)}：
+ * - 参数类型可赋值即可匹配（ArrayList 实参可传给 List 形参），基本类型形参接受对应的包装类型实参，null 实参匹配任意引用类型形参；
+ * - 多个构造器都匹配时选参数类型最具体的一个；只差基本类型与包装类型时（Foo(int) 与 Foo(Integer)），
+ * 选形参与实参类型完全相同的个数多的一个（即包装类型形参），仍无法区分时报错，结果与构造器的声明顺序无关；
+ * - 选择结果按实参类型签名缓存，同一签名只解析一次。实参类型来自子类加载器时不缓存，避免拖住子类加载器；
+ * - 无参构造预先用 LambdaMetafactory 绑定为 Supplier，实例化时直接调用
+ */
+final class ConstructorResolver<T> {
+
+    private static final ClassValue<ConstructorResolver<?>> RESOLVERS = new ClassValue<>() {
+        @Override
+        protected ConstructorResolver<?> computeValue(Class<?> type) {
+            return new ConstructorResolver<>(type);
+        }
+    };
+
+    private static final String INIT = "<init>";
+
+    private final Class<T> type;
+    private final List<Candidate<T>> candidates;
+    /**
+     * 无参构造，没有时为 null
+     */
+    private final ConstructorMetadata<T> noArgsConstructor;
+    /**
+     * 无参构造绑定的 Supplier，无法绑定时为 null
+     */
+    private final Supplier<T> noArgs;
+    /**
+     * 单参数构造：实参类型 -> 构造器（null 实参、不比 type 存活更久的实参类型不缓存）
+     */
+    private final Map<Class<?>, ConstructorMetadata<T>> byArgType = new ConcurrentHashMap<>();
+    /**
+     * 多参数构造：实参类型签名 -> 构造器
+     */
+    private final Map<MemberKey, ConstructorMetadata<T>> bySignature = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private ConstructorResolver(Class<T> type) {
+        this.type = type;
+        this.candidates = new ArrayList<>();
+        ConstructorMetadata<T> noArgsConstructor = null;
+        for (Constructor<?> ctor : type.getDeclaredConstructors()) {
+            Class<?>[] params = ctor.getParameterTypes();
+            ConstructorMetadata<T> constructor = ClassCache.findConstructor(type, params);
+            if (constructor == null) {
+                continue;
+            }
+            if (!constructor.getOriginConstructor().equals(ctor)) {
+                // Foo(int) 与 Foo(Integer) 在 ClassCache 中共用一个签名键，被覆盖的一个单独创建
+                constructor = new ConstructorMetadata<>((Constructor<T>) ctor);
+            }
+            candidates.add(new Candidate<>(constructor, params));
+            if (params.length == 0) {
+                noArgsConstructor = constructor;
+            }
+        }
+        this.noArgsConstructor = noArgsConstructor;
+        this.noArgs = noArgsConstructor == null ? null : supplier(noArgsConstructor);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> ConstructorResolver<T> of(Class<T> type) {
+        return (ConstructorResolver<T>) RESOLVERS.get(type);
+    }
+
+    T newInstance(Object... args) throws InvocationTargetException, InstantiationException, IllegalAccessException {
+        if (args == null || args.length == 0) {
+            if (noArgsConstructor == null) {
+                throw new InvokeException("类【" + type.getName() + "】没有无参构造器");
+            }
+            if (noArgs == null) {
+                return noArgsConstructor.instance();
+            }
+            try {
+                return noArgs.get();
+            } catch (Throwable e) {
+                // 与 Constructor.newInstance 保持一致，构造器内部抛出的异常包裹为 InvocationTargetException
+                throw new InvocationTargetException(e);
+            }
+        }
+        return resolve(args).instance(args);
+    }
+
+    /**
+     * 找到与实参匹配的构造器，结果按实参类型签名缓存
+     */
+    private ConstructorMetadata<T> resolve(Object[] args) {
+        if (args.length == 1) {
+            Object arg = args[0];
+            if (arg == null) {
+                return select(args);
+            }
+            ConstructorMetadata<T> c = byArgType.get(arg.getClass());
+            if (c == null) {
+                c = select(args);
+                if (Reflects.outlives(arg.getClass(), type)) {
+                    byArgType.putIfAbsent(arg.getClass(), c);
+                }
+            }
+            return c;
+        }
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i] == null ? null : args[i].getClass();
+            if (argTypes[i] != null && !Reflects.outlives(argTypes[i], type)) {
+                return select(args);
+            }
+        }
+        MemberKey key = MemberKey.of(INIT, argTypes);
+        ConstructorMetadata<T> c = bySignature.get(key);
+        if (c == null) {
+            c = select(args);
+            bySignature.putIfAbsent(key, c);
+        }
+        return c;
+    }
+
+    private ConstructorMetadata<T> select(Object[] args) {
+        Candidate<T> best = null;
+        for (Candidate<T> candidate : candidates) {
+            if (candidate.accepts(args) && (best == null || candidate.compareTo(best, args) > 0)) {
+                best = candidate;
+            }
+        }
+        if (best == null) {
+            throw new InvokeException("类【" + type.getName() + "】没有与实参类型【" + MemberKey.of(INIT, Reflects.argsToClasses(args)) + "】匹配的构造器");
+        }
+        // 选中的构造器必须严格优于其余每一个匹配的构造器
+        for (Candidate<T> candidate : candidates) {
+            if (candidate != best && candidate.accepts(args) && best.compareTo(candidate, args) <= 0) {
+                throw new InvokeException("类【" + type.getName() + "】有多个与实参类型【" + MemberKey.of(INIT, Reflects.argsToClasses(args)) + "】匹配的构造器");
+            }
+        }
+        return best.constructor;
+    }
+
+    /**
+     * 用 LambdaMetafactory 把无参构造绑定为 Supplier；无法绑定（抽象类、未开放的模块等）时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> supplier(ConstructorMetadata<T> constructor) {
+        Constructor<T> ctor = constructor.getOriginConstructor();
+        Class<T> type = ctor.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            MethodHandle mh = lookup.unreflectConstructor(ctor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    mh,
+                    MethodType.methodType(type));
+            return (Supplier<T>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param params 形参类型
+     */
+    private record Candidate<T>(ConstructorMetadata<T> constructor, Class<?>[] params) {
+
+        boolean accepts(Object[] args) {
+            if (params.length != args.length) {
+                return false;
+            }
+            for (int i = 0; i < params.length; i++) {
+                Object arg = args[i];
+                if (arg == null) {
+                    if (params[i].isPrimitive()) {
+                        return false;
+                    }
+                } else if (!Reflects.primitiveToWrapper(params[i]).isInstance(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 与 other 比较哪个更匹配 args：参数类型更具体的优先；两者互相一样具体（只差基本类型与包装类型）时，
+         * 形参与实参类型完全相同的个数多的优先。大于 0 表示当前构造器更优，等于 0 表示无法区分
+         */
+        int compareTo(Candidate<?> other, Object[] args) {
+            boolean thisFirst = moreSpecificThan(other);
+            boolean otherFirst = other.moreSpecificThan(this);
+            if (thisFirst != otherFirst) {
+                return thisFirst ? 1 : -1;
+            }
+            return thisFirst ? Integer.compare(exactMatches(args), other.exactMatches(args)) : 0;
+        }
+
+        private int exactMatches(Object[] args) {
+            int n = 0;
+            for (int i = 0; i < params.length; i++) {
+                if (args[i] != null && params[i] == args[i].getClass()) {
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        /**
+         * 每个形参类型都可赋值给 other 对应的形参类型
+         */
+        boolean moreSpecificThan(Candidate<?> other) {
+            for (int i = 0; i < params.length; i++) {
+                if (!Reflects.primitiveToWrapper(other.params[i]).isAssignableFrom(Reflects.primitiveToWrapper(params[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
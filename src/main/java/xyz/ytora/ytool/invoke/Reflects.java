@@ -1,7 +1,6 @@
 package xyz.ytora.ytool.invoke;
 
-import xyz.ytora.ytool.classcache.ClassCache;
-import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
+import xyz.ytora.ytool.invoke.support.LambdaInvoke;
 import xyz.ytora.ytool.invoke.support.ReflectInvoke;
 
 import java.lang.reflect.Array;
@@ -17,7 +16,11 @@ import java.util.*;
  */
 public class Reflects {
 
-    static Invoke invoke = new ReflectInvoke();
+    /**
+     * 字段读写和方法调用的实现，见 {@link #setInvoke(Invoke)}。
+     * 默认的 ReflectInvoke 经 getter/setter 读写字段、只允许调用 public 方法
+     */
+    static volatile Invoke invoke = new ReflectInvoke();
 
     //基本类型和包装类型映射
     private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = Map.of(
@@ -33,15 +36,15 @@ public class Reflects {
     );
 
     /**
-     * 根据class实例化对象
+     * 根据class实例化对象：按实参类型挑选构造器（允许子类实参和基本类型装箱），
+     * 挑选结果按实参类型缓存，无参构造通过预先绑定的 Supplier 调用
      */
     @SuppressWarnings("unchecked")
     public static <T> T newInstance(Class<T> clazz, Object... args) throws InvocationTargetException, InstantiationException, IllegalAccessException {
         if (Object.class.equals(clazz)) {
             return (T) new Object();
         }
-        ConstructorMetadata<T> constructor = ClassCache.getConstructor(clazz, argsToClasses(args));
-        return constructor.instance(args);
+        return ConstructorResolver.of(clazz).newInstance(args);
     }
 
     /**
@@ -111,6 +114,25 @@ public class Reflects {
         return null;
     }
 
+    /**
+     * 当前使用的调用实现
+     */
+    public static Invoke getInvoke() {
+        return invoke;
+    }
+
+    /**
+     * 替换字段读写和方法调用的实现。{@link LambdaInvoke} 的字段读写约为默认实现的 3~4 倍（见 ReflectionBenchmark），
+     * 但它直接读写字段、不经过 getter/setter（代理对象、计算型 getter 会取到不同的值），也允许调用非 public 方法，
+     * 确认调用方不依赖这些行为后再切换
+     */
+    public static void setInvoke(Invoke newInvoke) {
+        if (newInvoke == null) {
+            throw new IllegalArgumentException("调用实现不能为空");
+        }
+        invoke = newInvoke;
+    }
+
     /**
      * 获取对象的字段
      */
@@ -155,6 +177,22 @@ public class Reflects {
         return types;
     }
 
+    /**
+     * referenced 的类加载器是否就是 holder 的类加载器或其祖先，即 holder 存活期间 referenced 一定不会被卸载。
+     * 挂在 holder 上的缓存只有此时才能强引用 referenced，否则会拖住 referenced 所在的类加载器
+     */
+    public static boolean outlives(Class<?> referenced, Class<?> holder) {
+        ClassLoader loader = referenced.getClassLoader();
+        for (ClassLoader l = holder.getClassLoader(); ; l = l.getParent()) {
+            if (l == loader) {
+                return true;
+            }
+            if (l == null) {
+                return false;
+            }
+        }
+    }
+
     /**
      * 基本类型转包装类型
      */
@@ -1,111 +1,243 @@
 package xyz.ytora.ytool.invoke.support;
 
 import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
 import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
 import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
 import xyz.ytora.ytool.invoke.Invoke;
-
-import java.lang.invoke.*;
+import xyz.ytora.ytool.invoke.InvokeException;
+import xyz.ytora.ytool.invoke.Reflects;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
 
 /**
  * created by yangtong on 2025/4/15 13:15:41
  * <br/>
- * 基于LambdaMetafactory实现的调用
+ * 基于预先适配的 MethodHandle 实现的调用。
+ * 每个类一张访问表（挂在 {@link ClassValue} 上）：字段按下标（slot）存放 (Object)Object 的读句柄和
+ * (Object, Object)void 的写句柄，字段名到下标的映射在建表时确定；方法按名称分组存放重载。
+ * 调用时只做一次 ClassValue 查找和一次按字段名的 Map 查找，再用 invokeExact 调用，不拼接字符串、不绑定句柄。
+ * 注意：LambdaMetafactory 只能绑定方法，不能绑定字段读写句柄，因此字段访问直接使用 MethodHandle
  */
-
 public class LambdaInvoke implements Invoke {
 
-    private static final ConcurrentHashMap<String, Function<?, ?>> getterCache = new ConcurrentHashMap<>();
-    private static final Map<String, BiConsumer<?, ?>> setterCache = new ConcurrentHashMap<>();
-    private static final Map<String, MethodHandle> methodHandleCache = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<AccessorTable> TABLES = new ClassValue<>() {
+        @Override
+        protected AccessorTable computeValue(Class<?> type) {
+            return new AccessorTable(ClassCache.get(type));
+        }
+    };
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> Object getFieldValue(T target, String fieldName) {
-        String key = target.getClass().getName() + "#" + fieldName;
-        Function<T, Object> getter = (Function<T, Object>) getterCache.computeIfAbsent(key, k -> {
-            try {
-                FieldMetadata fieldMeta = ClassCache.getField(target.getClass(), fieldName);
-                MethodHandles.Lookup lookup = MethodHandles.lookup();
-                MethodHandle getterHandle = lookup.unreflectGetter(fieldMeta.getSourceField());
-
-                CallSite site = LambdaMetafactory.metafactory(
-                        lookup,
-                        "apply",
-                        MethodType.methodType(Function.class),
-                        MethodType.methodType(Object.class, Object.class),
-                        getterHandle,
-                        MethodType.methodType(fieldMeta.getSourceField().getType(), target.getClass())
-                );
-
-                return (Function<T, Object>) site.getTarget().invoke();
-            } catch (Throwable e) {
-                throw new RuntimeException("创建 getter lambda 失败: " + fieldName, e);
-            }
-        });
-
-        return getter.apply(target);
+        AccessorTable table = TABLES.get(target.getClass());
+        return table.get(target, table.requireSlot(fieldName));
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> void setFieldValue(T target, String fieldName, Object value) {
-        String key = target.getClass().getName() + "#" + fieldName;
-        BiConsumer<T, Object> setter = (BiConsumer<T, Object>) setterCache.computeIfAbsent(key, k -> {
-            try {
-                FieldMetadata fieldMeta = ClassCache.getField(target.getClass(), fieldName);
-                MethodHandles.Lookup lookup = MethodHandles.lookup();
-                MethodHandle setterHandle = lookup.unreflectSetter(fieldMeta.getSourceField());
-
-                CallSite site = LambdaMetafactory.metafactory(
-                        lookup,
-                        "accept",
-                        MethodType.methodType(BiConsumer.class),
-                        MethodType.methodType(void.class, Object.class, Object.class),
-                        setterHandle,
-                        MethodType.methodType(void.class, target.getClass(), fieldMeta.getSourceField().getType())
-                );
-
-                return (BiConsumer<T, Object>) site.getTarget().invoke();
-            } catch (Throwable e) {
-                throw new RuntimeException("创建 setter lambda 失败: " + fieldName, e);
-            }
-        });
+        AccessorTable table = TABLES.get(target.getClass());
+        table.set(target, table.requireSlot(fieldName), value);
+    }
+
+    /**
+     * 字段在 type 访问表中的下标，不存在时返回 -1。调用方可缓存该下标，之后按下标读写，省去按名称查找
+     */
+    public int fieldSlot(Class<?> type, String fieldName) {
+        Integer slot = TABLES.get(type).slots.get(fieldName);
+        return slot == null ? -1 : slot;
+    }
 
-        setter.accept(target, value);
+    /**
+     * 按下标读取字段值，下标来自 {@link #fieldSlot(Class, String)}
+     */
+    public Object getFieldValue(Object target, int slot) {
+        return TABLES.get(target.getClass()).get(target, slot);
+    }
+
+    /**
+     * 按下标写入字段值，下标来自 {@link #fieldSlot(Class, String)}
+     */
+    public void setFieldValue(Object target, int slot, Object value) {
+        TABLES.get(target.getClass()).set(target, slot, value);
     }
 
     @Override
-    public <T> Object invokeMethod(T target, String methodName, Class<?>[] paramTypes, Object... args) {
-        String key = target.getClass().getName() + "#" + methodName + "#" + String.join(",", getTypeNames(paramTypes));
+    public <T> Object invokeMethod(T target, String methodName, Class<?>[] paramTypes, Object... args)
+            throws InvocationTargetException, IllegalAccessException {
+        MethodMetadata method = TABLES.get(target.getClass()).method(methodName, paramTypes);
+        return method.invoke(target, args);
+    }
 
-        try {
-            MethodHandle handle = methodHandleCache.computeIfAbsent(key, k -> {
+    /**
+     * 单个类的访问表，建好后只读
+     */
+    private static final class AccessorTable {
+        private final Class<?> type;
+        private final Map<String, Integer> slots;
+        private final String[] names;
+        private final MethodHandle[] getters;
+        /**
+         * 只读字段（static final 字段、record 字段等不允许写入的字段）没有写句柄，对应位置为 null
+         */
+        private final MethodHandle[] setters;
+        /**
+         * 方法名 -> 各重载
+         */
+        private final Map<String, MethodSlot[]> methods;
+
+        AccessorTable(ClassMetadata<?> metadata) {
+            this.type = metadata.getSourceClass();
+            List<FieldMetadata> fields = metadata.getFields();
+            int n = fields.size();
+            this.slots = new HashMap<>(n * 2);
+            this.names = new String[n];
+            this.getters = new MethodHandle[n];
+            this.setters = new MethodHandle[n];
+            for (int i = 0; i < n; i++) {
+                Field field = fields.get(i).getSourceField();
+                names[i] = field.getName();
+                slots.put(field.getName(), i);
                 try {
-                    MethodMetadata methodMeta = ClassCache.getMethod(target.getClass(), methodName, paramTypes);
-                    MethodHandles.Lookup lookup = MethodHandles.lookup();
-                    return lookup.unreflect(methodMeta.getOriginMethod());
+                    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+                    boolean isStatic = Modifier.isStatic(field.getModifiers());
+                    MethodHandle getter = lookup.unreflectGetter(field);
+                    if (isStatic) {
+                        getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                    }
+                    getters[i] = getter.asType(GETTER_TYPE);
+                    if (!(isStatic && Modifier.isFinal(field.getModifiers()))) {
+                        setters[i] = setter(lookup, field, isStatic);
+                    }
                 } catch (IllegalAccessException e) {
-                    throw new RuntimeException("创建方法句柄失败: " + methodName, e);
+                    throw new InvokeException("无法访问字段【" + type.getName() + "." + field.getName() + "】", e);
+                }
+            }
+
+            Map<String, List<MethodSlot>> grouped = new LinkedHashMap<>();
+            for (MethodMetadata method : metadata.getMethods()) {
+                Class<?>[] params = method.getOriginMethod().getParameterTypes();
+                for (int i = 0; i < params.length; i++) {
+                    params[i] = Reflects.primitiveToWrapper(params[i]);
                 }
-            });
+                grouped.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(new MethodSlot(method, params));
+            }
+            this.methods = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((name, list) -> methods.put(name, list.toArray(new MethodSlot[0])));
+        }
+
+        /**
+         * 字段写句柄；record 等不允许通过反射写入的 final 字段返回 null
+         */
+        private static MethodHandle setter(MethodHandles.Lookup lookup, Field field, boolean isStatic) {
+            MethodHandle setter;
+            try {
+                setter = lookup.unreflectSetter(field);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+            if (isStatic) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            return setter.asType(SETTER_TYPE);
+        }
+
+        int requireSlot(String fieldName) {
+            Integer slot = slots.get(fieldName);
+            if (slot == null) {
+                throw new InvokeException("类【" + type.getName() + "】没有字段【" + fieldName + "】");
+            }
+            return slot;
+        }
+
+        Object get(Object target, int slot) {
+            try {
+                return (Object) getters[slot].invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvokeException("读取字段【" + names[slot] + "】失败", t);
+            }
+        }
 
-            return handle.bindTo(target).invokeWithArguments(args);
-        } catch (Throwable e) {
-            throw new RuntimeException("方法调用失败: " + methodName, e);
+        void set(Object target, int slot, Object value) {
+            MethodHandle setter = setters[slot];
+            if (setter == null) {
+                throw new InvokeException("字段【" + type.getName() + "." + names[slot] + "】是只读的，不能写入");
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvokeException("写入字段【" + names[slot] + "】失败", t);
+            }
+        }
+
+        /**
+         * 先按参数类型精确匹配（基本类型与包装类型视为相同）；
+         * 没有时若只有一个同参数个数、且参数类型都可赋值的重载，则使用它
+         */
+        MethodMetadata method(String name, Class<?>[] paramTypes) {
+            MethodSlot[] candidates = methods.get(name);
+            int arity = paramTypes == null ? 0 : paramTypes.length;
+            if (candidates != null) {
+                for (MethodSlot candidate : candidates) {
+                    if (candidate.matches(paramTypes, arity, false)) {
+                        return candidate.method;
+                    }
+                }
+                MethodMetadata assignable = null;
+                for (MethodSlot candidate : candidates) {
+                    if (candidate.matches(paramTypes, arity, true)) {
+                        if (assignable != null) {
+                            assignable = null;
+                            break;
+                        }
+                        assignable = candidate.method;
+                    }
+                }
+                if (assignable != null) {
+                    return assignable;
+                }
+            }
+            throw new InvokeException("类【" + type.getName() + "】没有匹配的方法【" + name + "】");
         }
     }
 
-    private static String[] getTypeNames(Class<?>[] types) {
-        if (types == null || types.length == 0) return new String[0];
-        String[] names = new String[types.length];
-        for (int i = 0; i < types.length; i++) {
-            names[i] = types[i].getName();
+    /**
+     * @param params 参数类型，基本类型已换为包装类型
+     */
+    private record MethodSlot(MethodMetadata method, Class<?>[] params) {
+
+        boolean matches(Class<?>[] types, int arity, boolean assignable) {
+            if (params.length != arity) {
+                return false;
+            }
+            for (int i = 0; i < arity; i++) {
+                Class<?> t = types[i] == null ? null : Reflects.primitiveToWrapper(types[i]);
+                if (t == params[i]) {
+                    continue;
+                }
+                // null 参数的类型未知，只在可赋值匹配时按 Object 处理
+                if (!assignable || (t != null && !params[i].isAssignableFrom(t))) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return names;
     }
 }
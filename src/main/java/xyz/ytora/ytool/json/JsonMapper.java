@@ -1,10 +1,12 @@
 package xyz.ytora.ytool.json;
 
 import xyz.ytora.ytool.classcache.ClassCache;
+import xyz.ytora.ytool.classcache.ClassScanner;
 import xyz.ytora.ytool.classcache.classmeta.ClassMetadata;
 import xyz.ytora.ytool.classcache.classmeta.ConstructorMetadata;
 import xyz.ytora.ytool.classcache.classmeta.FieldMetadata;
 import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
+import xyz.ytora.ytool.classcache.classmeta.PropertyMetadata;
 import xyz.ytora.ytool.json.config.JsonConfig;
 import xyz.ytora.ytool.json.config.convert.ConverterRegistry;
 import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
@@ -12,16 +14,37 @@ import xyz.ytora.ytool.json.config.convert.support.*;
 import xyz.ytora.ytool.json.config.mapper.DefaultSetterFinder;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
+import xyz.ytora.ytool.json.metrics.JsonMetrics;
 import xyz.ytora.ytool.json.reader.JsonReader;
-
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.ByteBufferSink;
+import xyz.ytora.ytool.json.writer.sink.DirectBufferPool;
+import xyz.ytora.ytool.json.writer.sink.JsonBuffers;
+import xyz.ytora.ytool.json.writer.sink.PooledDirectSink;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
+import xyz.ytora.ytool.json.writer.sink.Utf8Sink;
+import xyz.ytora.ytool.json.writer.sink.Utf8OutputStreamSink;
+import xyz.ytora.ytool.io.IosException;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * JSON字符串 ↔ POJO
@@ -32,6 +55,26 @@ public class JsonMapper {
 
     private final JsonConfig config;
 
+    /**
+     * 埋点，未开启时为 null
+     */
+    private final JsonMetrics metrics;
+
+    /**
+     * POJO 编解码信息缓存，按类隔离，类卸载后随之释放
+     */
+    private final ClassValue<PojoCodec> codecs = new ClassValue<>() {
+        @Override
+        protected PojoCodec computeValue(Class<?> type) {
+            return buildCodec(type);
+        }
+    };
+
+    /**
+     * 构建过编解码信息的类名，用于生成预热清单
+     */
+    private final Set<String> seenTypes = ConcurrentHashMap.newKeySet();
+
     public static JsonMapper createDefault() {
         // 类型转换器
         ConverterRegistry registry = new ConverterRegistry();
@@ -54,6 +97,7 @@ public class JsonMapper {
 
     public JsonMapper(JsonConfig config) {
         this.config = Objects.requireNonNull(config, "config");
+        this.metrics = config.metrics();
     }
 
     /* ====================== 公共 API ====================== */
@@ -62,19 +106,85 @@ public class JsonMapper {
      * 序列化 pojo -> json
      */
     public String toJson(Object bean) {
-        StringBuilder sb = new StringBuilder(256);
-        writeCtx().writeValue(sb, bean, null);
-        return sb.toString();
+        if (metrics == null) {
+            return write(bean);
+        }
+        long start = System.nanoTime();
+        String json = write(bean);
+        long nanos = System.nanoTime() - start;
+        metrics.recordWrite(bean == null ? Void.class : bean.getClass(), Utf8Sink.encodedLength(json), nanos, json);
+        return json;
+    }
+
+    /**
+     * 序列化 pojo -> UTF-8 字节流（不关闭流）
+     */
+    public void toJson(Object bean, OutputStream out) {
+        Utf8OutputStreamSink sink = new Utf8OutputStreamSink(out);
+        long start = metrics == null ? 0 : System.nanoTime();
+        writeCtx().writeValue(new JsonWriter(sink), bean, null);
+        sink.flush();
+        if (metrics != null) {
+            metrics.recordWrite(bean == null ? Void.class : bean.getClass(), sink.written(), System.nanoTime() - start, null);
+        }
+    }
+
+    /**
+     * 序列化 pojo -> UTF-8 字节，直接写入 target（从其当前 position 开始）
+     *
+     * @return 写入的字节数
+     * @throws java.nio.BufferOverflowException target 剩余空间不足
+     */
+    public int toJson(Object bean, ByteBuffer target) {
+        ByteBufferSink sink = new ByteBufferSink(target);
+        long start = metrics == null ? 0 : System.nanoTime();
+        writeCtx().writeValue(new JsonWriter(sink), bean, null);
+        sink.flush();
+        if (metrics != null) {
+            metrics.recordWrite(bean == null ? Void.class : bean.getClass(), sink.written(), System.nanoTime() - start, null);
+        }
+        return (int) sink.written();
+    }
+
+    /**
+     * 序列化 pojo -> 池化直接内存中的 UTF-8 字节，使用共享缓冲池
+     */
+    public JsonBuffers toJsonBuffers(Object bean) {
+        return toJsonBuffers(bean, DirectBufferPool.shared());
+    }
+
+    /**
+     * 序列化 pojo -> 池化直接内存中的 UTF-8 字节，结果用完后需 close 以归还缓冲
+     */
+    public JsonBuffers toJsonBuffers(Object bean, DirectBufferPool pool) {
+        PooledDirectSink sink = new PooledDirectSink(pool);
+        long start = metrics == null ? 0 : System.nanoTime();
+        try {
+            writeCtx().writeValue(new JsonWriter(sink), bean, null);
+        } catch (RuntimeException e) {
+            sink.close();
+            throw e;
+        }
+        JsonBuffers buffers = sink.toBuffers();
+        if (metrics != null) {
+            metrics.recordWrite(bean == null ? Void.class : bean.getClass(), buffers.size(), System.nanoTime() - start, null);
+        }
+        return buffers;
+    }
+
+    /**
+     * 将 pojo 作为一个 JSON 值写入 writer，可用于手写序列化时嵌入对象
+     */
+    public void toJson(Object bean, JsonWriter writer) {
+        writeCtx().writeValue(writer, bean, null);
     }
 
     /**
      * 反序列化 json -> pojo
      */
     public <T> T fromJson(String json, Class<T> type) {
-        JsonReader r = new JsonReader(json, config.lenient());
-        r.next();
         @SuppressWarnings("unchecked")
-        T v = (T) readValue(type, r);
+        T v = (T) fromJson(json, (Type) type);
         return v;
     }
 
@@ -82,22 +192,173 @@ public class JsonMapper {
      * 反序列化 json -> pojo
      */
     public Object fromJson(String json, Type type) {
-        JsonReader r = new JsonReader(json, config.lenient());
-        r.next();
-        return readValue(type, r);
+        if (metrics == null) {
+            return read(json, type);
+        }
+        long start = System.nanoTime();
+        Object v = read(json, type);
+        long nanos = System.nanoTime() - start;
+        metrics.recordRead(type, Utf8Sink.encodedLength(json), nanos, json);
+        return v;
     }
 
     /**
      * 带泛型的反序列化 json -> pojo
      */
     public <T> T fromJson(String json, TypeRef<T> ref) {
-        JsonReader r = new JsonReader(json, config.lenient());
-        r.next();
         @SuppressWarnings("unchecked")
-        T v = (T) readValue(ref.type(), r);
+        T v = (T) fromJson(json, ref.type());
         return v;
     }
 
+    private String write(Object bean) {
+        StringBuilderSink sink = new StringBuilderSink();
+        writeCtx().writeValue(new JsonWriter(sink), bean, null);
+        return sink.toString();
+    }
+
+    private Object read(String json, Type type) {
+        JsonReader r = new JsonReader(json, config.lenient());
+        r.next();
+        return readValue(type, r);
+    }
+
+    /* ====================== 预热 ====================== */
+
+    /**
+     * 在 ForkJoin 公共池中并行预热指定类型，返回成功预热的类型数量
+     */
+    public int warmUp(Collection<Class<?>> types) {
+        return warmUp(types, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 在指定的 ForkJoinPool 中并行预热指定类型：提前构建类元数据、编解码信息以及 getter/setter/构造器句柄，
+     * 避免服务启动后首个请求承担这部分开销。属性中引用到的 POJO 类型会被一并预热
+     *
+     * @return 成功预热的类型数量
+     */
+    public int warmUp(Collection<Class<?>> types, ForkJoinPool pool) {
+        if (types == null || types.isEmpty()) {
+            return 0;
+        }
+        Set<Class<?>> visited = ConcurrentHashMap.newKeySet();
+        AtomicInteger warmed = new AtomicInteger();
+        pool.submit(() -> types.parallelStream().forEach(type -> warmUpType(type, visited, warmed))).join();
+        return warmed.get();
+    }
+
+    /**
+     * 扫描指定包（含子包）下的类并并行预热
+     *
+     * @return 成功预热的类型数量
+     */
+    public int warmUp(String... basePackages) {
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            types.addAll(ClassScanner.scan(basePackage));
+        }
+        return warmUp(types);
+    }
+
+    /**
+     * 根据上次运行保存的清单预热，清单不存在时直接返回 0；清单中已不存在的类会被忽略
+     *
+     * @return 成功预热的类型数量
+     */
+    public int warmUpFromManifest(Path manifest) {
+        if (manifest == null || !Files.isRegularFile(manifest)) {
+            return 0;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IosException(e);
+        }
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = JsonMapper.class.getClassLoader();
+        }
+        List<Class<?>> types = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            String className = line.trim();
+            if (className.isEmpty() || className.startsWith("#")) {
+                continue;
+            }
+            try {
+                types.add(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // 类已被删除或改名，跳过
+            }
+        }
+        return warmUp(types);
+    }
+
+    /**
+     * 将本次运行中构建过编解码信息的类写入清单，供下次启动时通过 {@link #warmUpFromManifest(Path)} 预热
+     */
+    public void saveManifest(Path manifest) {
+        List<String> names = new ArrayList<>(seenTypes);
+        Collections.sort(names);
+        try {
+            Path parent = manifest.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(manifest, names, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IosException(e);
+        }
+    }
+
+    private void warmUpType(Class<?> type, Set<Class<?>> visited, AtomicInteger warmed) {
+        if (type == null || !visited.add(type) || !isWarmable(type)) {
+            return;
+        }
+        try {
+            PojoCodec codec = codecs.get(type);
+            // 属性访问器、构造器句柄等由 ClassCache 一次性创建
+            ClassCache.prewarm(type);
+            for (PropertyMetadata p : codec.getters) {
+                warmUpReferenced(p.getGenericType(), visited, warmed);
+            }
+            warmed.incrementAndGet();
+        } catch (Exception | LinkageError e) {
+            // 预热失败不影响正常使用，首次序列化时会再次尝试
+        }
+    }
+
+    /**
+     * 预热属性声明类型中引用到的 POJO（包括数组元素与泛型参数）
+     */
+    private void warmUpReferenced(Type type, Set<Class<?>> visited, AtomicInteger warmed) {
+        if (type instanceof Class<?> c) {
+            if (c.isArray()) {
+                warmUpReferenced(c.getComponentType(), visited, warmed);
+            } else {
+                warmUpType(c, visited, warmed);
+            }
+        } else if (type instanceof ParameterizedType pt) {
+            for (Type arg : pt.getActualTypeArguments()) {
+                warmUpReferenced(arg, visited, warmed);
+            }
+        } else if (type instanceof GenericArrayType gat) {
+            warmUpReferenced(gat.getGenericComponentType(), visited, warmed);
+        }
+    }
+
+    private static boolean isWarmable(Class<?> type) {
+        return !type.isPrimitive()
+                && !type.isArray()
+                && !type.isInterface()
+                && !type.isEnum()
+                && !type.isAnonymousClass()
+                && !type.isLocalClass()
+                && !Modifier.isAbstract(type.getModifiers())
+                && !isPlatformClass(type);
+    }
+
     /* ====================== 上下文实现 ====================== */
 
     private JsonReadContext readCtx() {
@@ -105,47 +366,49 @@ public class JsonMapper {
     }
 
     private JsonWriteContext writeCtx() {
-        ConverterRegistry registry = config.converters();
-        return new JsonWriteContext() {
-            @Override
-            public void writeValue(StringBuilder out, Object value, Type declaredType) {
-                // 1) 声明类型优先（泛型）
-                if (declaredType != null) {
-                    JsonTypeConverter<Object> c = cast(registry.lookup(declaredType));
-                    if (c != null) {
-                        c.write(out, value, declaredType, this);
-                        return;
-                    }
-
-                    if (declaredType instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> rc) {
-                        JsonTypeConverter<Object> c2 = cast(registry.lookup(rc));
-                        if (c2 != null) {
-                            c2.write(out, value, declaredType, this);
-                            return;
-                        }
-                    } else if (declaredType instanceof Class<?> rc2) {
-                        JsonTypeConverter<Object> c3 = cast(registry.lookup(rc2));
-                        if (c3 != null) {
-                            c3.write(out, value, declaredType, this);
-                            return;
-                        }
-                    }
+        return writeContext;
+    }
+
+    private final JsonWriteContext writeContext = new JsonWriteContext() {
+        @Override
+        public void writeValue(JsonWriter w, Object value, Type declaredType) {
+            ConverterRegistry registry = config.converters();
+            // 1) 声明类型优先（泛型）
+            if (declaredType != null) {
+                JsonTypeConverter<Object> c = cast(registry.lookup(declaredType));
+                if (c != null) {
+                    c.write(w, value, declaredType, this);
+                    return;
                 }
 
-                // 2) 运行时类型
-                if (value != null) {
-                    JsonTypeConverter<Object> c4 = cast(registry.lookup(value.getClass()));
-                    if (c4 != null) {
-                        c4.write(out, value, value.getClass(), this);
+                if (declaredType instanceof ParameterizedType pt && pt.getRawType() instanceof Class<?> rc) {
+                    JsonTypeConverter<Object> c2 = cast(registry.lookup(rc));
+                    if (c2 != null) {
+                        c2.write(w, value, declaredType, this);
+                        return;
+                    }
+                } else if (declaredType instanceof Class<?> rc2) {
+                    JsonTypeConverter<Object> c3 = cast(registry.lookup(rc2));
+                    if (c3 != null) {
+                        c3.write(w, value, declaredType, this);
                         return;
                     }
                 }
+            }
 
-                // 3) 默认写
-                JsonMapper.this.writeValue(out, value, this);
+            // 2) 运行时类型
+            if (value != null) {
+                JsonTypeConverter<Object> c4 = cast(registry.lookup(value.getClass()));
+                if (c4 != null) {
+                    c4.write(w, value, value.getClass(), this);
+                    return;
+                }
             }
-        };
-    }
+
+            // 3) 默认写
+            JsonMapper.this.writeValue(w, value, this);
+        }
+    };
 
     @SuppressWarnings("unchecked")
     private static <T> JsonTypeConverter<T> cast(JsonTypeConverter<?> c) {
@@ -154,27 +417,27 @@ public class JsonMapper {
 
     /* ====================== 核心写入 ====================== */
 
-    private void writeValue(StringBuilder out, Object v, JsonWriteContext ctx) {
+    private void writeValue(JsonWriter w, Object v, JsonWriteContext ctx) {
         if (v == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
 
         // 标量
         if (v instanceof String s) {
-            writeJsonString(out, s);
+            w.value(s);
             return;
         }
         if (v instanceof Boolean b) {
-            out.append(b ? "true" : "false");
+            w.value(b.booleanValue());
             return;
         }
         if (v instanceof Number n) {
-            writeNumber(out, n);
+            w.value(n);
             return;
         }
         if (v.getClass().isEnum()) {
-            writeJsonString(out, ((Enum<?>) v).name());
+            w.value(((Enum<?>) v).name());
             return;
         }
 
@@ -182,183 +445,145 @@ public class JsonMapper {
 
         // 数组
         if (c.isArray()) {
-            out.append('[');
-            int len = Array.getLength(v);
-            for (int i = 0; i < len; i++) {
-                if (i > 0) out.append(',');
-                ctx.writeValue(out, Array.get(v, i), c.getComponentType());
-            }
-            out.append(']');
+            writeArray(w, v, c.getComponentType(), ctx);
             return;
         }
 
         // Collection
         if (v instanceof Collection<?> coll) {
-            out.append('[');
-            boolean first = true;
+            w.beginArray();
             for (Object e : coll) {
-                if (!first) out.append(',');
-                first = false;
-                ctx.writeValue(out, e, null);
+                ctx.writeValue(w, e, null);
             }
-            out.append(']');
+            w.endArray();
             return;
         }
 
         // Map
         if (v instanceof Map<?, ?> m) {
-            out.append('{');
-            boolean first = true;
+            w.beginObject();
             for (Map.Entry<?, ?> en : m.entrySet()) {
-                if (!first) out.append(',');
-                first = false;
-                writeJsonString(out, String.valueOf(en.getKey()));
-                out.append(':');
-                ctx.writeValue(out, en.getValue(), null);
+                w.name(String.valueOf(en.getKey()));
+                ctx.writeValue(w, en.getValue(), null);
             }
-            out.append('}');
+            w.endObject();
             return;
         }
 
         if (isPlatformClass(v.getClass())) {
-            writeJsonString(out, String.valueOf(v));
+            w.value(String.valueOf(v));
             return;
         }
 
         // POJO
-        writePojo(out, v, ctx);
+        writePojo(w, v, ctx);
+    }
+
+    /**
+     * 基本类型数组直接按元素写出，避免 Array.get 装箱
+     */
+    private void writeArray(JsonWriter w, Object array, Class<?> componentType, JsonWriteContext ctx) {
+        w.beginArray();
+        if (array instanceof int[] a) {
+            for (int e : a) w.value(e);
+        } else if (array instanceof long[] a) {
+            for (long e : a) w.value(e);
+        } else if (array instanceof double[] a) {
+            for (double e : a) w.value(e);
+        } else if (array instanceof boolean[] a) {
+            for (boolean e : a) w.value(e);
+        } else if (componentType.isPrimitive()) {
+            int len = Array.getLength(array);
+            for (int i = 0; i < len; i++) {
+                ctx.writeValue(w, Array.get(array, i), componentType);
+            }
+        } else {
+            for (Object e : (Object[]) array) {
+                ctx.writeValue(w, e, componentType);
+            }
+        }
+        w.endArray();
     }
 
-    private void writePojo(StringBuilder out, Object bean, JsonWriteContext ctx) {
+    private void writePojo(JsonWriter w, Object bean, JsonWriteContext ctx) {
         Class<?> c = bean.getClass();
-        Map<String, GetterInfo> getters = findGetters(c);
+        List<PropertyMetadata> getters = codecs.get(c).getters;
         ConverterRegistry registry = config.converters();
 
-        out.append('{');
-        boolean first = true;
-        for (Map.Entry<String, GetterInfo> en : getters.entrySet()) {
-            String prop = en.getKey();
-            GetterInfo gi = en.getValue();
-
+        w.beginObject();
+        for (PropertyMetadata p : getters) {
             Object val;
             try {
-                val = gi.method.invoke(bean);
+                val = p.get(bean);
             } catch (Exception e) {
-                throw error("getter 执行失败: " + gi.name + " -> " + e.getMessage());
+                throw error("getter 执行失败: " + p.getter().getName() + " -> " + e.getMessage());
             }
 
-            if (!first) out.append(',');
-            first = false;
-            writeJsonString(out, prop);
-            out.append(':');
+            w.name(p.getName());
 
             // 优先按 getter 的“声明泛型类型”找转换器
-            JsonTypeConverter<Object> cvr = cast(registry.lookup(gi.genericReturnType));
+            Type declared = p.getGenericType();
+            JsonTypeConverter<Object> cvr = cast(registry.lookup(declared));
             if (cvr != null) {
-                cvr.write(out, val, gi.genericReturnType, ctx);
+                cvr.write(w, val, declared, ctx);
             } else {
-                ctx.writeValue(out, val, null);
+                ctx.writeValue(w, val, null);
             }
         }
-        out.append('}');
+        w.endObject();
     }
 
-    private static final class GetterInfo {
-        final String name;
-        final MethodMetadata method;
-        final Type genericReturnType;
-
-        GetterInfo(String name, MethodMetadata mm, Type grt) {
-            this.name = name;
-            this.method = mm;
-            this.genericReturnType = grt;
+    /**
+     * 单个 POJO 类型的编解码信息
+     */
+    private static final class PojoCodec {
+        /**
+         * 可序列化的属性（public getter），按输出顺序排列
+         */
+        final List<PropertyMetadata> getters;
+        /**
+         * 属性名 -> public setter，供 SetterFinder 查找
+         */
+        final Map<String, MethodMetadata> setters;
+        /**
+         * setter -> 属性，用属性的访问器完成写入
+         */
+        final Map<MethodMetadata, PropertyMetadata> writers;
+        /**
+         * 无参构造器，不存在时为 null
+         */
+        final ConstructorMetadata<?> constructor;
+
+        PojoCodec(List<PropertyMetadata> getters, Map<MethodMetadata, PropertyMetadata> writers, ConstructorMetadata<?> constructor) {
+            this.getters = getters;
+            this.writers = writers;
+            this.setters = new HashMap<>();
+            for (PropertyMetadata p : writers.values()) {
+                setters.put(p.getName(), p.setter());
+            }
+            this.constructor = constructor;
         }
     }
 
-    private Map<String, GetterInfo> findGetters(Class<?> c) {
+    private PojoCodec buildCodec(Class<?> c) {
         if (isPlatformClass(c)) {
-            return Collections.emptyMap();
+            return new PojoCodec(Collections.emptyList(), Collections.emptyMap(), null);
         }
-        Map<String, GetterInfo> map = new LinkedHashMap<>();
         ClassMetadata<?> classMetadata = ClassCache.get(c);
-        for (MethodMetadata mm : classMetadata.getMethods()) {
-            if (mm.isStatic() || !mm.isPublic() || !mm.parameters().isEmpty()) continue;
-            String name = mm.getName();
-
-            String prop = null;
-            // record类没有getter，直接获取record组件对应的方法
-            if (c.isRecord()) {
-                if (!classMetadata.getSourceFieldMap().containsKey(name)) {
-                    continue;
-                }
-                prop = name;
-            }
-            // 普通类，解构getter方法
-            else {
-                if (name.startsWith("get") && name.length() > 3) prop = decap(name.substring(3));
-                else if (name.startsWith("is") && name.length() > 2
-                        && (mm.returnType() == boolean.class || mm.returnType() == Boolean.class)) {
-                    prop = decap(name.substring(2));
-                }
-            }
-            if (prop == null || "class".equals(prop)) continue;
-
-            map.put(prop, new GetterInfo(name, mm, mm.genericReturnType()));
-        }
-        return map;
-    }
-
-    private void writeNumber(StringBuilder out, Number n) {
-        if (n instanceof Double d) {
-            if (d.isNaN() || d.isInfinite()) {
-                out.append("null");
-                return;
+        ConstructorMetadata<?> constructor = classMetadata.findConstructor();
+        List<PropertyMetadata> getters = new ArrayList<>();
+        Map<MethodMetadata, PropertyMetadata> writers = new IdentityHashMap<>();
+        for (PropertyMetadata p : classMetadata.getProperties()) {
+            if (p.isReadable() && p.getter().isPublic()) {
+                getters.add(p);
             }
-        } else if (n instanceof Float f) {
-            if (f.isNaN() || f.isInfinite()) {
-                out.append("null");
-                return;
-            }
-        }
-        out.append(n.toString());
-    }
-
-    private void writeJsonString(StringBuilder sb, String s) {
-        if (s == null) {
-            sb.append("null");
-            return;
-        }
-        sb.append('"');
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            switch (c) {
-                case '"':
-                    sb.append("\\\"");
-                    break;
-                case '\\':
-                    sb.append("\\\\");
-                    break;
-                case '\b':
-                    sb.append("\\b");
-                    break;
-                case '\f':
-                    sb.append("\\f");
-                    break;
-                case '\n':
-                    sb.append("\\n");
-                    break;
-                case '\r':
-                    sb.append("\\r");
-                    break;
-                case '\t':
-                    sb.append("\\t");
-                    break;
-                default:
-                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
-                    else sb.append(c);
+            if (p.isWritable() && p.setter().isPublic()) {
+                writers.put(p.setter(), p);
             }
         }
-        sb.append('"');
+        PojoCodec codec = new PojoCodec(getters, writers, constructor);
+        seenTypes.add(c.getName());
+        return codec;
     }
 
     /* ====================== 核心读取 ====================== */
@@ -563,17 +788,19 @@ public class JsonMapper {
         if (r.token() == JsonToken.VALUE_NULL) return null;
         if (r.token() != JsonToken.START_OBJECT) throw error("期望对象开始, 实际却读到:" + r.token());
 
-        // 获取类元缓存
-        ClassMetadata<T> classMetadata = ClassCache.get(cls);
+        // 获取编解码信息
+        PojoCodec codec = codecs.get(cls);
+        if (codec.constructor == null) {
+            throw error("实例化失败: 从【" + cls.getName() + "】类中未找到无参构造器");
+        }
         final T bean;
         try {
-            ConstructorMetadata<T> constructor = classMetadata.getConstructor();
-            bean = constructor.instance();
+            bean = cls.cast(codec.constructor.instance());
         } catch (Exception e) {
             throw error("实例化失败: " + e.getMessage());
         }
 
-        Map<String, MethodMetadata> setters = findSetters(cls, classMetadata);
+        Map<String, MethodMetadata> setters = codec.setters;
         ConverterRegistry registry = config.converters();
 
         for (JsonToken t = r.next(); ; t = r.next()) {
@@ -596,7 +823,12 @@ public class JsonMapper {
             JsonTypeConverter<Object> cv = cast(registry.lookup(paramType));
             Object arg = (cv != null) ? cv.read(r, paramType, readCtx()) : readCtx().readValue(paramType, r);
             try {
-                setter.invoke(bean, arg);
+                PropertyMetadata p = codec.writers.get(setter);
+                if (p != null) {
+                    p.set(bean, arg);
+                } else {
+                    setter.invoke(bean, arg);
+                }
             } catch (Exception e) {
                 throw error("调用 setter 失败: " + setter.getName() + " -> " + e.getMessage());
             }
@@ -604,29 +836,6 @@ public class JsonMapper {
         return bean;
     }
 
-    private <T> Map<String, MethodMetadata> findSetters(Class<?> c, ClassMetadata<T> classMetadata) {
-        if (isPlatformClass(c)) {
-            return Collections.emptyMap();
-        }
-        Map<String, MethodMetadata> map = new HashMap<>();
-        for (MethodMetadata method : classMetadata.getMethods()) {
-            if (method.isStatic() || !method.isPublic() || method.parameters().size() != 1) continue;
-            String name = method.getName();
-            if (name.startsWith("set") && name.length() > 3) {
-                String prop = decap(name.substring(3));
-                map.put(prop, method);
-            }
-        }
-        return map;
-    }
-
-    private static String decap(String s) {
-        if (s == null || s.isEmpty()) return s;
-        char c0 = s.charAt(0);
-        char lc = Character.toLowerCase(c0);
-        return (c0 == lc) ? s : lc + s.substring(1);
-    }
-
     void skipValue(JsonReader r) {
         JsonToken t = r.token();
         // 若还未取到任何 token，先推进一次，保证进入时有“当前值”
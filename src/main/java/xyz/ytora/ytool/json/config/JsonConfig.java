@@ -3,6 +3,7 @@ package xyz.ytora.ytool.json.config;
 import xyz.ytora.ytool.classcache.classmeta.MethodMetadata;
 import xyz.ytora.ytool.json.config.convert.ConverterRegistry;
 import xyz.ytora.ytool.json.config.mapper.SetterFinder;
+import xyz.ytora.ytool.json.metrics.JsonMetrics;
 
 import java.util.Map;
 
@@ -22,11 +23,16 @@ public final class JsonConfig {
      * JSON字段 -> POJO字段的映射规则
      */
     private final SetterFinder setterFinder;
+    /**
+     * 埋点，为 null 时不统计
+     */
+    private final JsonMetrics metrics;
 
-    private JsonConfig(boolean lenient, ConverterRegistry converters, SetterFinder setterFinder) {
+    private JsonConfig(boolean lenient, ConverterRegistry converters, SetterFinder setterFinder, JsonMetrics metrics) {
         this.lenient = lenient;
         this.converters = converters;
         this.setterFinder = setterFinder;
+        this.metrics = metrics;
     }
 
     public boolean lenient() {
@@ -41,6 +47,10 @@ public final class JsonConfig {
         return setterFinder.getSetter(name, setters);
     }
 
+    public JsonMetrics metrics() {
+        return metrics;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -50,6 +60,7 @@ public final class JsonConfig {
         private boolean lenient = true;
         private ConverterRegistry converters = new ConverterRegistry();
         private SetterFinder setterFinder;
+        private JsonMetrics metrics;
 
         public Builder lenient(boolean v) {
             this.lenient = v;
@@ -66,8 +77,16 @@ public final class JsonConfig {
             return this;
         }
 
+        /**
+         * 开启序列化/反序列化埋点，默认关闭
+         */
+        public Builder metrics(JsonMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public JsonConfig build() {
-            return new JsonConfig(lenient, converters, setterFinder);
+            return new JsonConfig(lenient, converters, setterFinder, metrics);
         }
     }
 }
@@ -8,6 +8,7 @@ package xyz.ytora.ytool.json.config.convert;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
 
 import java.lang.reflect.Type;
 
@@ -24,4 +25,17 @@ public interface JsonTypeConverter<T> {
      * 序列化：把 value 以 JSON 写入 out（可用 ctx 递归写子值）
      */
     void write(StringBuilder out, T value, Type declaredType, JsonWriteContext ctx);
+
+    /**
+     * 序列化：把 value 作为一个 JSON 值写入 w（可用 ctx 递归写子值）。
+     * <p>
+     * JsonMapper 只调用该方法；默认实现先调用 StringBuilder 版本再原样写入，
+     * 热点类型建议覆写该方法直接写 token，并让 StringBuilder 版本委托过来
+     * </p>
+     */
+    default void write(JsonWriter w, T value, Type declaredType, JsonWriteContext ctx) {
+        StringBuilder out = new StringBuilder();
+        write(out, value, declaredType, ctx);
+        w.rawValue(out);
+    }
 }
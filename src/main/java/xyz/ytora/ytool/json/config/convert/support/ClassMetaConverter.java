@@ -5,6 +5,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.Type;
 
@@ -22,10 +24,15 @@ public class ClassMetaConverter implements JsonTypeConverter<ClassMetadata<?>> {
 
     @Override
     public void write(StringBuilder out, ClassMetadata<?> value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, ClassMetadata<?> value, Type declared, JsonWriteContext ctx) {
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
-        ctx.writeValue(out, value.getClassName(), String.class);
+        ctx.writeValue(w, value.getClassName(), String.class);
     }
 }
@@ -7,6 +7,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.Type;
 import java.time.format.DateTimeFormatter;
@@ -29,10 +31,15 @@ public class DateConverter implements JsonTypeConverter<Date> {
 
     @Override
     public void write(StringBuilder out, Date value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, Date value, Type declared, JsonWriteContext ctx) {
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
-        ctx.writeValue(out, Dates.formatDate(value), String.class);
+        ctx.writeValue(w, Dates.formatDate(value), String.class);
     }
 }
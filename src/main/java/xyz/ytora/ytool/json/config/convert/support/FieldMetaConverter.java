@@ -6,6 +6,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.Type;
 
@@ -23,10 +25,15 @@ public class FieldMetaConverter implements JsonTypeConverter<FieldMetadata> {
 
     @Override
     public void write(StringBuilder out, FieldMetadata value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, FieldMetadata value, Type declared, JsonWriteContext ctx) {
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
-        ctx.writeValue(out, value.getName(), String.class);
+        ctx.writeValue(w, value.getName(), String.class);
     }
 }
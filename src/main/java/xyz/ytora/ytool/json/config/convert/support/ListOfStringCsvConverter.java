@@ -7,6 +7,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -66,12 +68,17 @@ public class ListOfStringCsvConverter implements JsonTypeConverter<List<String>>
 
     @Override
     public void write(StringBuilder out, List<String> value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, List<String> value, Type declared, JsonWriteContext ctx) {
         if (!matches(declared)) {
-            ctx.writeValue(out, value, declared);
+            ctx.writeValue(w, value, declared);
             return;
         }
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
         StringBuilder sb = new StringBuilder();
@@ -79,6 +86,6 @@ public class ListOfStringCsvConverter implements JsonTypeConverter<List<String>>
             if (i > 0) sb.append(',');
             sb.append(value.get(i));
         }
-        ctx.writeValue(out, sb.toString(), String.class);
+        ctx.writeValue(w, sb.toString(), String.class);
     }
 }
\ No newline at end of file
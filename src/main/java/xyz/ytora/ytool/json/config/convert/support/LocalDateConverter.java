@@ -6,6 +6,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.Type;
 import java.time.LocalDate;
@@ -28,10 +30,15 @@ public class LocalDateConverter implements JsonTypeConverter<LocalDate> {
 
     @Override
     public void write(StringBuilder out, LocalDate value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, LocalDate value, Type declared, JsonWriteContext ctx) {
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
-        ctx.writeValue(out, value.format(F), String.class);
+        ctx.writeValue(w, value.format(F), String.class);
     }
 }
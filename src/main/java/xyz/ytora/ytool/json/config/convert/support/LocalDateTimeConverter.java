@@ -6,6 +6,8 @@ import xyz.ytora.ytool.json.config.convert.JsonTypeConverter;
 import xyz.ytora.ytool.json.context.JsonReadContext;
 import xyz.ytora.ytool.json.context.JsonWriteContext;
 import xyz.ytora.ytool.json.reader.JsonReader;
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
 
 import java.lang.reflect.Type;
 import java.time.LocalDateTime;
@@ -29,10 +31,15 @@ public class LocalDateTimeConverter implements JsonTypeConverter<LocalDateTime>
 
     @Override
     public void write(StringBuilder out, LocalDateTime value, Type declared, JsonWriteContext ctx) {
+        write(new JsonWriter(new StringBuilderSink(out)), value, declared, ctx);
+    }
+
+    @Override
+    public void write(JsonWriter w, LocalDateTime value, Type declared, JsonWriteContext ctx) {
         if (value == null) {
-            out.append("null");
+            w.nullValue();
             return;
         }
-        ctx.writeValue(out, value.format(F), String.class);
+        ctx.writeValue(w, value.format(F), String.class);
     }
 }
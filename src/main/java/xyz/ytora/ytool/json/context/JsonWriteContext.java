@@ -1,5 +1,8 @@
 package xyz.ytora.ytool.json.context;
 
+import xyz.ytora.ytool.json.writer.JsonWriter;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
+
 import java.lang.reflect.Type;
 
 /**
@@ -7,5 +10,12 @@ import java.lang.reflect.Type;
  * <br/>
  */
 public interface JsonWriteContext {
-    void writeValue(StringBuilder out, Object value, Type declaredType);
+    void writeValue(JsonWriter w, Object value, Type declaredType);
+
+    /**
+     * 将 value 作为一个完整的 JSON 值追加到 out
+     */
+    default void writeValue(StringBuilder out, Object value, Type declaredType) {
+        writeValue(new JsonWriter(new StringBuilderSink(out)), value, declaredType);
+    }
 }
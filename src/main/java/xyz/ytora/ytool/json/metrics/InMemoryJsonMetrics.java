@@ -0,0 +1,125 @@
+package xyz.ytora.ytool.json.metrics;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * created by yangtong on 2026/10/18 11:30:18
+ * <br/>
+ * 默认的内存埋点实现：按根类型统计次数、长度与耗时分布，并在环形缓冲区中保留最近的慢文档。
+ * 记录路径上只有 ConcurrentHashMap 读取与原子自增，不加锁
+ */
+public class InMemoryJsonMetrics implements JsonMetrics {
+
+    /**
+     * 慢文档片段最大长度
+     */
+    private static final int EXCERPT_LENGTH = 256;
+
+    private final Map<Type, JsonTypeStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 慢文档阈值（纳秒）
+     */
+    private final long slowThresholdNanos;
+    private final AtomicReferenceArray<SlowDocument> slowDocuments;
+    private final AtomicLong slowCursor = new AtomicLong();
+
+    /**
+     * 默认 100ms 视为慢文档，保留最近 32 个
+     */
+    public InMemoryJsonMetrics() {
+        this(Duration.ofMillis(100), 32);
+    }
+
+    public InMemoryJsonMetrics(Duration slowThreshold, int slowSampleCapacity) {
+        if (slowSampleCapacity <= 0) {
+            throw new IllegalArgumentException("慢文档采样容量必须大于 0");
+        }
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowDocuments = new AtomicReferenceArray<>(slowSampleCapacity);
+    }
+
+    @Override
+    public void recordWrite(Type rootType, long size, long nanos, CharSequence document) {
+        statsOf(rootType).recordWrite(size, nanos);
+        if (nanos >= slowThresholdNanos) {
+            sample(rootType, true, size, nanos, document);
+        }
+    }
+
+    @Override
+    public void recordRead(Type rootType, long size, long nanos, CharSequence document) {
+        statsOf(rootType).recordRead(size, nanos);
+        if (nanos >= slowThresholdNanos) {
+            sample(rootType, false, size, nanos, document);
+        }
+    }
+
+    /**
+     * 获取全部类型的统计（只读视图）
+     */
+    public Map<Type, JsonTypeStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * 获取指定类型的统计，不存在时返回 null
+     */
+    public JsonTypeStats getStats(Type type) {
+        return stats.get(type);
+    }
+
+    /**
+     * 获取最近的慢文档，按时间从旧到新排列
+     */
+    public List<SlowDocument> getSlowDocuments() {
+        int capacity = slowDocuments.length();
+        long end = slowCursor.get();
+        long begin = Math.max(0, end - capacity);
+        List<SlowDocument> list = new ArrayList<>((int) (end - begin));
+        for (long i = begin; i < end; i++) {
+            SlowDocument doc = slowDocuments.get((int) (i % capacity));
+            if (doc != null) {
+                list.add(doc);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 清空统计
+     */
+    public void reset() {
+        stats.clear();
+        for (int i = 0; i < slowDocuments.length(); i++) {
+            slowDocuments.set(i, null);
+        }
+        slowCursor.set(0);
+    }
+
+    private JsonTypeStats statsOf(Type type) {
+        JsonTypeStats s = stats.get(type);
+        if (s == null) {
+            s = stats.computeIfAbsent(type, JsonTypeStats::new);
+        }
+        return s;
+    }
+
+    private void sample(Type type, boolean write, long size, long nanos, CharSequence document) {
+        String excerpt = null;
+        if (document != null) {
+            excerpt = document.subSequence(0, Math.min(EXCERPT_LENGTH, document.length())).toString();
+        }
+        long slot = slowCursor.getAndIncrement();
+        slowDocuments.set((int) (slot % slowDocuments.length()),
+                new SlowDocument(type, write, size, nanos, System.currentTimeMillis(), excerpt));
+    }
+}
@@ -0,0 +1,32 @@
+package xyz.ytora.ytool.json.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * created by yangtong on 2026/10/18 11:02:15
+ * <br/>
+ * JSON 序列化/反序列化埋点 SPI，通过 {@link xyz.ytora.ytool.json.config.JsonConfig.Builder#metrics(JsonMetrics)} 开启。
+ * 未配置时 JsonMapper 不会计时，也不会调用任何埋点方法
+ */
+public interface JsonMetrics {
+
+    /**
+     * 一次序列化完成
+     *
+     * @param rootType 根对象的运行时类型，值为 null 时为 Void.class
+     * @param size     输出的 UTF-8 字节数（字符串输出按 UTF-8 编码后的长度计）
+     * @param nanos    耗时（纳秒）
+     * @param document 输出的文档，流式输出时为 null
+     */
+    void recordWrite(Type rootType, long size, long nanos, CharSequence document);
+
+    /**
+     * 一次反序列化完成
+     *
+     * @param rootType 目标类型
+     * @param size     输入的 UTF-8 字节数（字符串输入按 UTF-8 编码后的长度计）
+     * @param nanos    耗时（纳秒）
+     * @param document 输入的文档，流式输入时为 null
+     */
+    void recordRead(Type rootType, long size, long nanos, CharSequence document);
+}
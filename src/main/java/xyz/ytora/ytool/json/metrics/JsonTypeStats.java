@@ -0,0 +1,91 @@
+package xyz.ytora.ytool.json.metrics;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * created by yangtong on 2026/10/18 11:21:07
+ * <br/>
+ * 单个根类型的序列化/反序列化统计
+ */
+public final class JsonTypeStats {
+
+    private final Type type;
+
+    private final LongAdder writeCount = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LatencyHistogram writeNanos = new LatencyHistogram();
+
+    private final LongAdder readCount = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LatencyHistogram readNanos = new LatencyHistogram();
+
+    JsonTypeStats(Type type) {
+        this.type = type;
+    }
+
+    void recordWrite(long size, long nanos) {
+        writeCount.increment();
+        bytesOut.add(size);
+        writeNanos.record(nanos);
+    }
+
+    void recordRead(long size, long nanos) {
+        readCount.increment();
+        bytesIn.add(size);
+        readNanos.record(nanos);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 序列化次数
+     */
+    public long getWriteCount() {
+        return writeCount.sum();
+    }
+
+    /**
+     * 序列化输出总字节数（UTF-8）
+     */
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * 序列化耗时分布（纳秒）
+     */
+    public LatencyHistogram getWriteNanos() {
+        return writeNanos;
+    }
+
+    /**
+     * 反序列化次数
+     */
+    public long getReadCount() {
+        return readCount.sum();
+    }
+
+    /**
+     * 反序列化输入总字节数（UTF-8）
+     */
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * 反序列化耗时分布（纳秒）
+     */
+    public LatencyHistogram getReadNanos() {
+        return readNanos;
+    }
+
+    @Override
+    public String toString() {
+        return type.getTypeName()
+                + "{write=" + getWriteCount() + ", out=" + getBytesOut() + ", writeP99=" + writeNanos.percentile(99) + "ns"
+                + ", read=" + getReadCount() + ", in=" + getBytesIn() + ", readP99=" + readNanos.percentile(99) + "ns}";
+    }
+}
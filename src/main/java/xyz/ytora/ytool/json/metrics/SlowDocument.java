@@ -0,0 +1,18 @@
+package xyz.ytora.ytool.json.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * created by yangtong on 2026/10/18 11:25:33
+ * <br/>
+ * 慢文档采样
+ *
+ * @param type      根类型
+ * @param write     true 表示序列化，false 表示反序列化
+ * @param size      文档的 UTF-8 字节数
+ * @param nanos     耗时（纳秒）
+ * @param timestamp 记录时间（毫秒时间戳）
+ * @param excerpt   文档开头的片段，流式读写时为 null
+ */
+public record SlowDocument(Type type, boolean write, long size, long nanos, long timestamp, String excerpt) {
+}
@@ -0,0 +1,338 @@
+package xyz.ytora.ytool.json.writer;
+
+import xyz.ytora.ytool.json.writer.sink.JsonSink;
+import xyz.ytora.ytool.json.writer.sink.StringBuilderSink;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * created by yangtong on 2026/10/18 15:30:05
+ * <br/>
+ * 将 token 写成 JSON，与 {@link xyz.ytora.ytool.json.reader.JsonReader} 相对应。
+ * 自动维护嵌套层级、逗号和冒号，写入顺序错误时抛出 IllegalStateException
+ * <pre>
+ * w.beginObject().name("id").value(1L).name("tags").beginArray().value("a").endArray().endObject();
+ * </pre>
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+    // 作用域状态
+    private static final byte EMPTY_DOCUMENT = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT = 2;
+    private static final byte NONEMPTY_OBJECT = 3;
+    private static final byte DANGLING_NAME = 4;
+    private static final byte EMPTY_ARRAY = 5;
+    private static final byte NONEMPTY_ARRAY = 6;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] NULL = "null".toCharArray();
+    private static final char[] TRUE = "true".toCharArray();
+    private static final char[] FALSE = "false".toCharArray();
+    private static final char[] MIN_LONG = Long.toString(Long.MIN_VALUE).toCharArray();
+
+    private final JsonSink sink;
+
+    // 嵌套栈
+    private byte[] stack = new byte[32];
+    private int depth = 1;
+
+    // 数字格式化用的临时缓冲
+    private final char[] scratch = new char[20];
+
+    public JsonWriter() {
+        this(new StringBuilderSink());
+    }
+
+    public JsonWriter(JsonSink sink) {
+        this.sink = sink;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    public JsonSink sink() {
+        return sink;
+    }
+
+    /* ====================== 结构 ====================== */
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        sink.write('{');
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        byte top = peek();
+        if (top != EMPTY_OBJECT && top != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("endObject 与当前嵌套层级不匹配");
+        }
+        depth--;
+        sink.write('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        sink.write('[');
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        byte top = peek();
+        if (top != EMPTY_ARRAY && top != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("endArray 与当前嵌套层级不匹配");
+        }
+        depth--;
+        sink.write(']');
+        return this;
+    }
+
+    /**
+     * 写入对象的字段名
+     */
+    public JsonWriter name(CharSequence name) {
+        if (name == null) {
+            throw new IllegalArgumentException("字段名不能为空");
+        }
+        byte top = peek();
+        if (top == NONEMPTY_OBJECT) {
+            sink.write(',');
+        } else if (top == DANGLING_NAME) {
+            throw new IllegalStateException("字段名之后必须先写入值");
+        } else if (top != EMPTY_OBJECT) {
+            throw new IllegalStateException("只能在对象中写入字段名");
+        }
+        stack[depth - 1] = DANGLING_NAME;
+        writeString(name);
+        sink.write(':');
+        return this;
+    }
+
+    /* ====================== 值 ====================== */
+
+    public JsonWriter value(CharSequence value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    public JsonWriter value(int value) {
+        return value((long) value);
+    }
+
+    /**
+     * NaN 和无穷大没有对应的 JSON 表示，写为 null
+     */
+    public JsonWriter value(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        writeRaw(Double.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(float value) {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        writeRaw(Float.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        char[] literal = value ? TRUE : FALSE;
+        sink.write(literal, 0, literal.length);
+        return this;
+    }
+
+    public JsonWriter value(Number value) {
+        if (value == null) {
+            return nullValue();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof Double d) {
+            return value(d.doubleValue());
+        }
+        if (value instanceof Float f) {
+            return value(f.floatValue());
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            beforeValue();
+            writeRaw(value.toString());
+            return this;
+        }
+        // 其他 Number 实现（AtomicLong 等）按其字符串形式输出，非有限值写为 null
+        double d = value.doubleValue();
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            return nullValue();
+        }
+        beforeValue();
+        writeRaw(value.toString());
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        sink.write(NULL, 0, NULL.length);
+        return this;
+    }
+
+    /**
+     * 原样写入一段已经编码好的 JSON 值（调用方保证其合法性）
+     */
+    public JsonWriter rawValue(CharSequence json) {
+        beforeValue();
+        writeRaw(json);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        sink.flush();
+    }
+
+    /**
+     * 关闭底层输出；存在未闭合的对象或数组时抛出 IllegalStateException
+     */
+    @Override
+    public void close() {
+        if (depth > 1 || peek() != NONEMPTY_DOCUMENT) {
+            sink.close();
+            throw new IllegalStateException("JSON 文档不完整");
+        }
+        sink.close();
+    }
+
+    /* ====================== 内部实现 ====================== */
+
+    private void beforeValue() {
+        switch (peek()) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                sink.write(',');
+                break;
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                throw new IllegalStateException("JSON 文档只能有一个顶层值");
+            default:
+                throw new IllegalStateException("对象中的值必须先写入字段名");
+        }
+    }
+
+    private byte peek() {
+        if (depth == 0) {
+            throw new IllegalStateException("JsonWriter 已关闭");
+        }
+        return stack[depth - 1];
+    }
+
+    private void push(byte scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private void writeRaw(CharSequence s) {
+        sink.write(s, 0, s.length());
+    }
+
+    private void writeString(CharSequence s) {
+        sink.write('"');
+        int len = s.length();
+        // 连续的无需转义字符整段写出
+        int run = 0;
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (run < i) {
+                sink.write(s, run, i);
+            }
+            run = i + 1;
+            switch (c) {
+                case '"':
+                    sink.write("\\\"", 0, 2);
+                    break;
+                case '\\':
+                    sink.write("\\\\", 0, 2);
+                    break;
+                case '\b':
+                    sink.write("\\b", 0, 2);
+                    break;
+                case '\f':
+                    sink.write("\\f", 0, 2);
+                    break;
+                case '\n':
+                    sink.write("\\n", 0, 2);
+                    break;
+                case '\r':
+                    sink.write("\\r", 0, 2);
+                    break;
+                case '\t':
+                    sink.write("\\t", 0, 2);
+                    break;
+                default:
+                    scratch[0] = '\\';
+                    scratch[1] = 'u';
+                    scratch[2] = '0';
+                    scratch[3] = '0';
+                    scratch[4] = HEX[(c >> 4) & 0xF];
+                    scratch[5] = HEX[c & 0xF];
+                    sink.write(scratch, 0, 6);
+            }
+        }
+        if (run < len) {
+            sink.write(s, run, len);
+        }
+        sink.write('"');
+    }
+
+    private void writeLong(long v) {
+        if (v == Long.MIN_VALUE) {
+            sink.write(MIN_LONG, 0, MIN_LONG.length);
+            return;
+        }
+        boolean negative = v < 0;
+        if (negative) {
+            v = -v;
+        }
+        int pos = scratch.length;
+        do {
+            scratch[--pos] = (char) ('0' + (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (negative) {
+            scratch[--pos] = '-';
+        }
+        sink.write(scratch, pos, scratch.length - pos);
+    }
+}
@@ -0,0 +1,30 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+import java.nio.ByteBuffer;
+
+/**
+ * created by yangtong on 2026/10/18 15:21:58
+ * <br/>
+ * 基于 ByteBuffer（堆内或直接内存），按 UTF-8 编码写入；空间不足时抛出 BufferOverflowException
+ */
+public final class ByteBufferSink extends Utf8Sink {
+    private final ByteBuffer buffer;
+
+    public ByteBufferSink(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    protected void writeByte(int b) {
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void flush() {
+        finish();
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+}
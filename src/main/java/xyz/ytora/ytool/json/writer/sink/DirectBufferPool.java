@@ -0,0 +1,77 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * created by yangtong on 2026/10/18 16:02:14
+ * <br/>
+ * 固定块大小的直接内存缓冲池。
+ * 直接内存的分配和回收代价较高，这里复用归还的块，池中最多保留 maxPooled 个，多余的交给 GC
+ */
+public final class DirectBufferPool {
+
+    private static final DirectBufferPool SHARED = new DirectBufferPool(16 * 1024, 256);
+
+    private final int chunkSize;
+    private final int maxPooled;
+    private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public DirectBufferPool(int chunkSize, int maxPooled) {
+        if (chunkSize < 16) {
+            throw new IllegalArgumentException("chunkSize 不能小于 16");
+        }
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("maxPooled 不能为负数");
+        }
+        this.chunkSize = chunkSize;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * 全局共享的缓冲池：16KB 一块，最多保留 256 块（4MB）
+     */
+    public static DirectBufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * 取出一块已清空的缓冲
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buf = free.poll();
+        if (buf == null) {
+            return ByteBuffer.allocateDirect(chunkSize);
+        }
+        pooled.decrementAndGet();
+        buf.clear();
+        return buf;
+    }
+
+    /**
+     * 归还缓冲；不属于本池规格的缓冲直接丢弃
+     */
+    public void release(ByteBuffer buf) {
+        if (buf == null || !buf.isDirect() || buf.capacity() != chunkSize) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offer(buf);
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 当前池中空闲的块数
+     */
+    public int pooled() {
+        return pooled.get();
+    }
+}
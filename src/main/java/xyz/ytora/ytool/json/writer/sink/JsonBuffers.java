@@ -0,0 +1,112 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * created by yangtong on 2026/10/18 16:18:52
+ * <br/>
+ * 序列化结果：一组只读的直接内存缓冲，可直接交给 {@link GatheringByteChannel#write(ByteBuffer[])}。
+ * 用完后调用 {@link #close()} 将底层内存归还缓冲池，之后不能再读取这些缓冲
+ * <pre>
+ * try (JsonBuffers buffers = mapper.toJsonBuffers(resp)) {
+ *     buffers.writeTo(channel);
+ * }
+ * </pre>
+ */
+public final class JsonBuffers implements AutoCloseable {
+    private final DirectBufferPool pool;
+    private ByteBuffer[] chunks;
+    private final ByteBuffer[] views;
+    private final long size;
+
+    JsonBuffers(DirectBufferPool pool, ByteBuffer[] chunks, long size) {
+        this.pool = pool;
+        this.chunks = chunks;
+        this.size = size;
+        int count = chunks.length;
+        // 最后一块可能为空（恰好在块边界处结束），不放进结果
+        if (count > 1 && chunks[count - 1].position() == 0) {
+            count--;
+        }
+        this.views = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            views[i] = chunks[i].duplicate().flip().asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * 只读缓冲链，position/limit 已就绪；各缓冲的读位置会随 channel 写出推进
+     */
+    public ByteBuffer[] buffers() {
+        if (chunks == null) {
+            throw new IllegalStateException("JsonBuffers 已关闭");
+        }
+        return views;
+    }
+
+    /**
+     * 总字节数
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 剩余未读取的字节数
+     */
+    public long remaining() {
+        long n = 0;
+        for (ByteBuffer view : buffers()) {
+            n += view.remaining();
+        }
+        return n;
+    }
+
+    /**
+     * 将剩余内容全部写入 channel（阻塞模式）；非阻塞 channel 可能只写出一部分，返回本次写出的字节数
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        ByteBuffer[] bufs = buffers();
+        long total = 0;
+        while (remaining() > 0) {
+            long n = channel.write(bufs);
+            if (n <= 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 复制全部内容为 byte[]（不影响读位置），主要用于调试
+     */
+    public byte[] toByteArray() {
+        byte[] out = new byte[Math.toIntExact(size)];
+        int pos = 0;
+        for (ByteBuffer view : buffers()) {
+            ByteBuffer dup = view.duplicate().rewind();
+            int n = dup.remaining();
+            dup.get(out, pos, n);
+            pos += n;
+        }
+        return out;
+    }
+
+    /**
+     * 归还底层缓冲；重复调用无副作用
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] owned = chunks;
+        if (owned == null) {
+            return;
+        }
+        chunks = null;
+        for (ByteBuffer chunk : owned) {
+            pool.release(chunk);
+        }
+    }
+}
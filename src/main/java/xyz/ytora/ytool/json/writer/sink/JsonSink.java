@@ -0,0 +1,23 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+/**
+ * created by yangtong on 2026/10/18 15:02:36
+ * <br/>
+ * JSON 输出目标，可能是字符缓冲区，UTF-8 字节流或者 ByteBuffer
+ */
+public interface JsonSink {
+
+    void write(char c);
+
+    void write(CharSequence s, int start, int end);
+
+    void write(char[] buf, int off, int len);
+
+    // 可覆写
+    default void flush() {
+    }
+
+    // 可覆写
+    default void close() {
+    }
+}
@@ -0,0 +1,73 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * created by yangtong on 2026/10/18 16:10:37
+ * <br/>
+ * 按 UTF-8 编码直接写入池化的直接内存，当前块写满后从池中再取一块接上，不做扩容拷贝。
+ * 一个字符的编码字节不会被拆到两块中。写完后调用 {@link #toBuffers()} 取得结果
+ */
+public final class PooledDirectSink extends Utf8Sink {
+    private final DirectBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>(4);
+    private ByteBuffer current;
+    private boolean detached;
+
+    public PooledDirectSink() {
+        this(DirectBufferPool.shared());
+    }
+
+    public PooledDirectSink(DirectBufferPool pool) {
+        this.pool = pool;
+        this.current = pool.acquire();
+        this.chunks.add(current);
+    }
+
+    @Override
+    protected void writeByte(int b) {
+        current.put((byte) b);
+    }
+
+    @Override
+    protected void require(int n) {
+        if (detached) {
+            throw new IllegalStateException("缓冲已交出，不能继续写入");
+        }
+        if (current.remaining() < n) {
+            current = pool.acquire();
+            chunks.add(current);
+        }
+    }
+
+    @Override
+    public void flush() {
+        finish();
+    }
+
+    /**
+     * 结束写入，把所有块交给返回的 {@link JsonBuffers}，之后本 sink 不能再使用
+     */
+    public JsonBuffers toBuffers() {
+        finish();
+        detached = true;
+        return new JsonBuffers(pool, chunks.toArray(new ByteBuffer[0]), written());
+    }
+
+    /**
+     * 放弃已写入的内容，把块归还缓冲池（序列化中途失败时使用）
+     */
+    @Override
+    public void close() {
+        if (detached) {
+            return;
+        }
+        detached = true;
+        for (ByteBuffer chunk : chunks) {
+            pool.release(chunk);
+        }
+        chunks.clear();
+    }
+}
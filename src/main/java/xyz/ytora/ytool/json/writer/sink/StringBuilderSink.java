@@ -0,0 +1,42 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+/**
+ * created by yangtong on 2026/10/18 15:05:12
+ * <br/>
+ * 基于 StringBuilder 的字符缓冲区
+ */
+public final class StringBuilderSink implements JsonSink {
+    private final StringBuilder sb;
+
+    public StringBuilderSink() {
+        this(new StringBuilder(256));
+    }
+
+    public StringBuilderSink(StringBuilder sb) {
+        this.sb = sb;
+    }
+
+    @Override
+    public void write(char c) {
+        sb.append(c);
+    }
+
+    @Override
+    public void write(CharSequence s, int start, int end) {
+        sb.append(s, start, end);
+    }
+
+    @Override
+    public void write(char[] buf, int off, int len) {
+        sb.append(buf, off, len);
+    }
+
+    public StringBuilder builder() {
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+import xyz.ytora.ytool.io.IosException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * created by yangtong on 2026/10/18 15:16:20
+ * <br/>
+ * 基于流，按 UTF-8 编码写出；内部维护 byte[] 缓冲，满了才写入底层流
+ */
+public final class Utf8OutputStreamSink extends Utf8Sink {
+    private final OutputStream out;
+    private final byte[] buf;
+    private int pos;
+
+    public Utf8OutputStreamSink(OutputStream out) {
+        this(out, 8192);
+    }
+
+    public Utf8OutputStreamSink(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buf = new byte[Math.max(16, bufferSize)];
+    }
+
+    @Override
+    protected void writeByte(int b) {
+        buf[pos++] = (byte) b;
+    }
+
+    @Override
+    protected void require(int n) {
+        if (pos + n > buf.length) {
+            drain();
+        }
+    }
+
+    /**
+     * 将缓冲写入底层流并 flush
+     */
+    @Override
+    public void flush() {
+        finish();
+        drain();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new IosException(e);
+        }
+    }
+
+    /**
+     * 刷新后关闭底层流
+     */
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new IosException(e);
+        }
+    }
+
+    private void drain() {
+        if (pos == 0) {
+            return;
+        }
+        try {
+            out.write(buf, 0, pos);
+        } catch (IOException e) {
+            throw new IosException(e);
+        }
+        pos = 0;
+    }
+}
@@ -0,0 +1,133 @@
+package xyz.ytora.ytool.json.writer.sink;
+
+/**
+ * created by yangtong on 2026/10/18 15:08:47
+ * <br/>
+ * UTF-8 编码输出的公共部分：子类只需提供按字节写入的能力。
+ * 代理对被拆分到两次写入时也能正确编码，孤立的代理字符按 '?' 输出（与 String.getBytes 一致）
+ */
+public abstract class Utf8Sink implements JsonSink {
+
+    /**
+     * 尚未配对的高代理字符，0 表示无
+     */
+    private char pendingHigh;
+
+    /**
+     * 已写出的字节数
+     */
+    private long written;
+
+    /**
+     * 写入一个字节
+     */
+    protected abstract void writeByte(int b);
+
+    /**
+     * 确保至少还能写入 n 个字节（可用于批量写入前的扩容/刷新），默认不处理
+     */
+    protected void require(int n) {
+    }
+
+    @Override
+    public final void write(char c) {
+        require(4);
+        encode(c);
+    }
+
+    @Override
+    public final void write(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            require(4);
+            encode(s.charAt(i));
+        }
+    }
+
+    @Override
+    public final void write(char[] buf, int off, int len) {
+        for (int i = off, end = off + len; i < end; i++) {
+            require(4);
+            encode(buf[i]);
+        }
+    }
+
+    /**
+     * 已写出的字节数
+     */
+    public long written() {
+        return written;
+    }
+
+    /**
+     * s 按本类规则编码为 UTF-8 后的字节数（孤立的代理字符计 1 个字节），不实际编码
+     */
+    public static long encodedLength(CharSequence s) {
+        long n = 0;
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                n++;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                n++;
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+
+    private void encode(char c) {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(c)) {
+                int cp = Character.toCodePoint(high, c);
+                writeByte(0xF0 | (cp >> 18));
+                writeByte(0x80 | ((cp >> 12) & 0x3F));
+                writeByte(0x80 | ((cp >> 6) & 0x3F));
+                writeByte(0x80 | (cp & 0x3F));
+                written += 4;
+                return;
+            }
+            // 高代理后面没有低代理
+            writeByte('?');
+            written++;
+            require(4);
+        }
+        if (c < 0x80) {
+            writeByte(c);
+            written++;
+        } else if (c < 0x800) {
+            writeByte(0xC0 | (c >> 6));
+            writeByte(0x80 | (c & 0x3F));
+            written += 2;
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHigh = c;
+        } else if (Character.isLowSurrogate(c)) {
+            writeByte('?');
+            written++;
+        } else {
+            writeByte(0xE0 | (c >> 12));
+            writeByte(0x80 | ((c >> 6) & 0x3F));
+            writeByte(0x80 | (c & 0x3F));
+            written += 3;
+        }
+    }
+
+    /**
+     * 输出结束时处理残留的高代理字符
+     */
+    protected final void finish() {
+        if (pendingHigh != 0) {
+            pendingHigh = 0;
+            require(1);
+            writeByte('?');
+            written++;
+        }
+    }
+}
@@ -0,0 +1,420 @@
+package xyz.ytora.ytool.number;
+
+import java.math.BigDecimal;
+
+/**
+ * created by yangtong on 2026/10/18 19:20:40
+ * <br/>
+ * 不抛异常的数字解析：非法输入返回调用方给定的默认值（tryParseXxx 返回 null），不创建异常对象。
+ * - 可以只解析 CharSequence 的 [from, to) 区间，忽略区间首尾空白（与 String.trim 一致），允许一个正负号，均不截取子串；
+ * - 小数语法为 [+-] 数字 [. 数字] [e|E [+-] 数字]，不接受 NaN、Infinity、十六进制和 d/f 后缀；
+ * - 小数按正确舍入解析：有效数字不超过 15 位、十进制指数不超过 22 时直接用一次精确的乘除得到结果，
+ *   其余情况交给 JDK 的解析（此时输入已校验合法，不会抛异常）
+ */
+public final class NumberParser {
+
+    /**
+     * 10^0 ~ 10^22，均可用 double 精确表示
+     */
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * 10^0 ~ 10^10，均可用 float 精确表示
+     */
+    private static final float[] POW10_F = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    /**
+     * 整数解析失败的标记
+     */
+    private static final long FAIL = Long.MIN_VALUE;
+
+    private NumberParser() {
+    }
+
+    /* ============================ int / long ============================ */
+
+    /**
+     * 解析 int，非法或溢出时返回 defaultValue
+     */
+    public static int parseInt(CharSequence s, int defaultValue) {
+        return s == null ? defaultValue : parseInt(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * 解析 s 的 [from, to) 区间为 int，非法或溢出时返回 defaultValue
+     */
+    public static int parseInt(CharSequence s, int from, int to, int defaultValue) {
+        long v = parseInteger(s, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return v == FAIL ? defaultValue : (int) v;
+    }
+
+    /**
+     * 解析 int，非法或溢出时返回 null
+     */
+    public static Integer tryParseInt(CharSequence s) {
+        if (s == null) {
+            return null;
+        }
+        long v = parseInteger(s, 0, s.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return v == FAIL ? null : (int) v;
+    }
+
+    /**
+     * 解析 long，非法或溢出时返回 defaultValue
+     */
+    public static long parseLong(CharSequence s, long defaultValue) {
+        return s == null ? defaultValue : parseLong(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * 解析 s 的 [from, to) 区间为 long，非法或溢出时返回 defaultValue
+     */
+    public static long parseLong(CharSequence s, int from, int to, long defaultValue) {
+        long v = parseInteger(s, from, to, Long.MIN_VALUE + 1, Long.MAX_VALUE);
+        if (v != FAIL) {
+            return v;
+        }
+        // FAIL 与 Long.MIN_VALUE 相同，单独确认输入是否恰好就是它
+        return isLongMin(s, from, to) ? Long.MIN_VALUE : defaultValue;
+    }
+
+    /**
+     * 解析 long，非法或溢出时返回 null
+     */
+    public static Long tryParseLong(CharSequence s) {
+        if (s == null) {
+            return null;
+        }
+        long v = parseInteger(s, 0, s.length(), Long.MIN_VALUE + 1, Long.MAX_VALUE);
+        if (v != FAIL) {
+            return v;
+        }
+        return isLongMin(s, 0, s.length()) ? Long.MIN_VALUE : null;
+    }
+
+    /**
+     * 解析十进制整数，结果不在 [min, max] 内或语法非法时返回 FAIL
+     */
+    private static long parseInteger(CharSequence s, int from, int to, long min, long max) {
+        from = skipLeading(s, from, to);
+        to = skipTrailing(s, from, to);
+        if (from == to) {
+            return FAIL;
+        }
+        boolean negative = false;
+        char first = s.charAt(from);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++from == to) {
+                return FAIL;
+            }
+        }
+        // 按负数累加，负数一侧的范围更大
+        long limit = negative ? min : -max;
+        long multMin = limit / 10;
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multMin) {
+                return FAIL;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return FAIL;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isLongMin(CharSequence s, int from, int to) {
+        String min = "-9223372036854775808";
+        from = skipLeading(s, from, to);
+        to = skipTrailing(s, from, to);
+        if (to - from != min.length()) {
+            return false;
+        }
+        for (int i = 0; i < min.length(); i++) {
+            if (s.charAt(from + i) != min.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* ============================ 小数 ============================ */
+
+    /**
+     * 解析 double，非法时返回 defaultValue
+     */
+    public static double parseDouble(CharSequence s, double defaultValue) {
+        return s == null ? defaultValue : parseDouble(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * 解析 s 的 [from, to) 区间为 double，非法时返回 defaultValue
+     */
+    public static double parseDouble(CharSequence s, int from, int to, double defaultValue) {
+        from = skipLeading(s, from, to);
+        to = skipTrailing(s, from, to);
+        return isDecimal(s, from, to) ? decimal(s, from, to) : defaultValue;
+    }
+
+    /**
+     * 解析 double，非法时返回 null
+     */
+    public static Double tryParseDouble(CharSequence s) {
+        if (s == null) {
+            return null;
+        }
+        int from = skipLeading(s, 0, s.length());
+        int to = skipTrailing(s, from, s.length());
+        return isDecimal(s, from, to) ? decimal(s, from, to) : null;
+    }
+
+    /**
+     * 解析 float，非法时返回 defaultValue
+     */
+    public static float parseFloat(CharSequence s, float defaultValue) {
+        return s == null ? defaultValue : parseFloat(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * 解析 s 的 [from, to) 区间为 float，非法时返回 defaultValue
+     */
+    public static float parseFloat(CharSequence s, int from, int to, float defaultValue) {
+        from = skipLeading(s, from, to);
+        to = skipTrailing(s, from, to);
+        return isDecimal(s, from, to) ? decimalFloat(s, from, to) : defaultValue;
+    }
+
+    /**
+     * 解析 float，非法时返回 null
+     */
+    public static Float tryParseFloat(CharSequence s) {
+        if (s == null) {
+            return null;
+        }
+        int from = skipLeading(s, 0, s.length());
+        int to = skipTrailing(s, from, s.length());
+        return isDecimal(s, from, to) ? decimalFloat(s, from, to) : null;
+    }
+
+    /**
+     * 解析为 BigDecimal（精确值，保留原有的标度），非法时返回 defaultValue
+     */
+    public static BigDecimal parseBigDecimal(CharSequence s, BigDecimal defaultValue) {
+        return s == null ? defaultValue : parseBigDecimal(s, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * 解析 s 的 [from, to) 区间为 BigDecimal，非法时返回 defaultValue
+     */
+    public static BigDecimal parseBigDecimal(CharSequence s, int from, int to, BigDecimal defaultValue) {
+        from = skipLeading(s, from, to);
+        to = skipTrailing(s, from, to);
+        if (!isDecimal(s, from, to)) {
+            return defaultValue;
+        }
+        // BigDecimal 只接受字符数组或字符串，这里的复制不可避免
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = s.charAt(i);
+        }
+        try {
+            return new BigDecimal(chars);
+        } catch (NumberFormatException e) {
+            // 语法已校验，只有指数超出 int 范围时才会走到这里
+            return defaultValue;
+        }
+    }
+
+    /**
+     * s 的 [from, to) 区间（不含首尾空白）是否为合法的十进制小数：[+-] 数字 [. 数字] [e|E [+-] 数字]，
+     * 整数部分和小数部分至少有一个数字
+     */
+    public static boolean isDecimal(CharSequence s, int from, int to) {
+        int i = from;
+        if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            i++;
+        }
+        int digits = 0;
+        while (i < to && isDigit(s.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < to && s.charAt(i) == '.') {
+            i++;
+            while (i < to && isDigit(s.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            int expDigits = 0;
+            while (i < to && isDigit(s.charAt(i))) {
+                i++;
+                expDigits++;
+            }
+            if (expDigits == 0) {
+                return false;
+            }
+        }
+        return i == to;
+    }
+
+    /**
+     * 解析已校验合法的小数。
+     * 有效数字 m 不超过 15 位（小于 2^53，可精确表示）且十进制指数 |e| 不超过 22（10^e 可精确表示）时，
+     * m * 10^e 或 m / 10^-e 只有一次舍入，结果即为正确舍入值
+     */
+    private static double decimal(CharSequence s, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exp10 = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        for (; i < to; i++) {
+            c = s.charAt(i);
+            if (c == '.') {
+                fraction = true;
+                continue;
+            }
+            if (c == 'e' || c == 'E') {
+                break;
+            }
+            if (mantissa == 0 && c == '0') {
+                // 前导零不计入有效数字
+                if (fraction) exp10--;
+                continue;
+            }
+            if (digits < 15) {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fraction) exp10--;
+            } else {
+                exact = false;
+                break;
+            }
+        }
+        if (exact && i < to) {
+            // 指数部分
+            i++;
+            boolean expNegative = false;
+            c = s.charAt(i);
+            if (c == '-' || c == '+') {
+                expNegative = c == '-';
+                i++;
+            }
+            int e = 0;
+            for (; i < to; i++) {
+                e = e * 10 + (s.charAt(i) - '0');
+                if (e > 1000) {
+                    exact = false;
+                    break;
+                }
+            }
+            exp10 += expNegative ? -e : e;
+        }
+        if (exact) {
+            if (mantissa == 0) {
+                return negative ? -0.0d : 0.0d;
+            }
+            if (exp10 >= 0 && exp10 <= 22) {
+                double v = mantissa * POW10[exp10];
+                return negative ? -v : v;
+            }
+            if (exp10 < 0 && exp10 >= -22) {
+                double v = mantissa / POW10[-exp10];
+                return negative ? -v : v;
+            }
+        }
+        return Double.parseDouble(s.subSequence(from, to).toString());
+    }
+
+    /**
+     * 解析已校验合法的小数为 float：有效数字不超过 7 位、|e| 不超过 10 时用一次 float 乘除
+     */
+    private static float decimalFloat(CharSequence s, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        int mantissa = 0;
+        int digits = 0;
+        int exp10 = 0;
+        boolean seenDot = false;
+        for (; i < to; i++) {
+            c = s.charAt(i);
+            if (c == '.') {
+                seenDot = true;
+                continue;
+            }
+            if (c == 'e' || c == 'E') {
+                break;
+            }
+            if (mantissa == 0 && c == '0') {
+                if (seenDot) exp10--;
+                continue;
+            }
+            if (digits == 7) {
+                return Float.parseFloat(s.subSequence(from, to).toString());
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            digits++;
+            if (seenDot) exp10--;
+        }
+        if (i < to) {
+            // 有指数部分，交给 JDK 处理
+            return Float.parseFloat(s.subSequence(from, to).toString());
+        }
+        if (mantissa == 0) {
+            return negative ? -0.0f : 0.0f;
+        }
+        float v;
+        if (exp10 >= -10) {
+            v = exp10 >= 0 ? mantissa * POW10_F[exp10] : mantissa / POW10_F[-exp10];
+        } else {
+            return Float.parseFloat(s.subSequence(from, to).toString());
+        }
+        return negative ? -v : v;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static int skipLeading(CharSequence s, int from, int to) {
+        while (from < to && s.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    static int skipTrailing(CharSequence s, int from, int to) {
+        while (to > from && s.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+}
@@ -133,26 +133,19 @@ public class Numbers {
      * @return 对应的 Number 实例，非法输入返回 null
      */
     public static Number toNumber(String input) {
-        if (input == null || input.trim().isEmpty()) {
+        if (input == null) {
             return null;
         }
-        input = input.trim();
-
-        try {
-            if (input.contains(".")) {
-                // 如果包含小数点，尝试解析为 Double
-                return Double.parseDouble(input);
-            } else {
-                // 尝试先解析为 Integer，再尝试 Long
-                try {
-                    return Integer.parseInt(input);
-                } catch (NumberFormatException e1) {
-                    return Long.parseLong(input);
-                }
-            }
-        } catch (NumberFormatException e) {
-            return null;
+        if (input.indexOf('.') >= 0) {
+            // 如果包含小数点，解析为 Double
+            return NumberParser.tryParseDouble(input);
+        }
+        // 先解析为 Integer，超出范围再解析为 Long
+        Integer i = NumberParser.tryParseInt(input);
+        if (i != null) {
+            return i;
         }
+        return NumberParser.tryParseLong(input);
     }
 
     /**
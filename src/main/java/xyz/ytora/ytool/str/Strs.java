@@ -1,5 +1,7 @@
 package xyz.ytora.ytool.str;
 
+import xyz.ytora.ytool.number.NumberParser;
+
 import java.math.BigDecimal;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -529,44 +531,32 @@ public class Strs {
      * 尝试将字符串转为Int
      */
     public static Integer tryToInt(String val, Integer defaultVal) {
-        try {
-            return val == null ? defaultVal : Integer.parseInt(val.trim());
-        } catch (NumberFormatException e) {
-            return defaultVal;
-        }
+        Integer v = NumberParser.tryParseInt(val);
+        return v == null ? defaultVal : v;
     }
 
     /**
      * 尝试将字符串转为Long
      */
     public static Long tryToLong(String val, Long defaultVal) {
-        try {
-            return val == null ? defaultVal : Long.parseLong(val.trim());
-        } catch (NumberFormatException e) {
-            return defaultVal;
-        }
+        Long v = NumberParser.tryParseLong(val);
+        return v == null ? defaultVal : v;
     }
 
     /**
      * 尝试将字符串转为Float
      */
     public static Float tryToFloat(String val, Float defaultVal) {
-        try {
-            return val == null ? defaultVal : Float.parseFloat(val.trim());
-        } catch (NumberFormatException e) {
-            return defaultVal;
-        }
+        Float v = NumberParser.tryParseFloat(val);
+        return v == null ? defaultVal : v;
     }
 
     /**
      * 尝试将字符串转为Double
      */
     public static Double tryToDouble(String val, Double defaultVal) {
-        try {
-            return val == null ? defaultVal : Double.parseDouble(val.trim());
-        } catch (NumberFormatException e) {
-            return defaultVal;
-        }
+        Double v = NumberParser.tryParseDouble(val);
+        return v == null ? defaultVal : v;
     }
 
     /**
@@ -586,11 +576,7 @@ public class Strs {
      * 尝试将字符串转为Decimal
      */
     public static BigDecimal tryToBigDecimal(String val, BigDecimal defaultVal) {
-        try {
-            return val == null ? defaultVal : new BigDecimal(val.trim());
-        } catch (NumberFormatException e) {
-            return defaultVal;
-        }
+        return NumberParser.parseBigDecimal(val, defaultVal);
     }
 
     /**